@@ -0,0 +1,20 @@
+package com.siscon.demo.employee.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Endpoints de lectura de empleados sobre WebFlux y R2DBC.
+ *
+ * <p>Atiende las mismas rutas de consulta que la aplicación principal ({@code /api/v1/employees}) sin bloquear
+ * hilos: un número pequeño y fijo de hilos de event loop atiende a miles de clientes lentos. Solo se
+ * escanea este paquete, la aplicación principal se usa únicamente por sus DTOs y constantes.</p>
+ */
+@SpringBootApplication
+public class ReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveApplication.class, args);
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.siscon.demo.employee.reactive;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/**
+ * Registra la resolución de {@code Pageable} (page, size, sort) con los mismos nombres de parámetros
+ * y el mismo tamaño máximo de página que la aplicación principal.
+ */
+@Configuration
+public class WebFluxConfig implements WebFluxConfigurer {
+
+	private static final int MAX_PAGE_SIZE = 100;
+
+	@Override
+	public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+		ReactivePageableHandlerMethodArgumentResolver pageableResolver = new ReactivePageableHandlerMethodArgumentResolver();
+		pageableResolver.setMaxPageSize(MAX_PAGE_SIZE);
+		configurer.addCustomResolver(pageableResolver);
+	}
+}
@@ -0,0 +1,163 @@
+package com.siscon.demo.employee.reactive.controller;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.siscon.demo.employee.dto.CursorPageDTO;
+import com.siscon.demo.employee.dto.LookupRequestDTO;
+import com.siscon.demo.employee.reactive.entity.EmployeeView;
+import com.siscon.demo.employee.reactive.repository.EmployeeReactiveRepository;
+import com.siscon.demo.employee.utility.KeysetCursor;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versión no bloqueante de los endpoints de consulta de {@code EmployeeController}.
+ *
+ * <p>Los listados se devuelven como {@link Flux}: las filas se leen de la base de datos a medida que el
+ * cliente las consume (backpressure), por lo que un cliente lento no retiene un hilo ni acumula la
+ * respuesta completa en memoria.</p>
+ */
+@RestController
+@RequestMapping("/api/v1/employees")
+public class EmployeeReactiveController {
+
+	public static final String NDJSON_VALUE = "application/x-ndjson";
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final Set<String> SORT_PROPERTIES = Set.of("id", "name", "middlename", "firstname", "lastname", "genre",
+			"birthdate", "dni", "position", "createdAt", "deletedAt", "updatedAt", "active");
+
+	private final EmployeeReactiveRepository employeeRepository;
+	private final int lookupMaxKeys;
+
+	public EmployeeReactiveController(EmployeeReactiveRepository employeeRepository,
+			@Value("${employee.lookup.max-keys:1000}") int lookupMaxKeys) {
+		this.employeeRepository = employeeRepository;
+		this.lookupMaxKeys = lookupMaxKeys;
+	}
+
+	/**
+	 * Página de empleados. A diferencia de la aplicación principal no calcula el total (no ejecuta COUNT):
+	 * devuelve solo los elementos de la página, como arreglo JSON o NDJSON según {@code Accept}.
+	 */
+	@GetMapping(value = "/all", produces = { MediaType.APPLICATION_JSON_VALUE, NDJSON_VALUE })
+	public Flux<EmployeeView> findAll(@PageableDefault(page = 0, size = 10) @SortDefault(sort = "name", direction = Direction.ASC) Pageable pageable) {
+		for (Order order : pageable.getSort()) {
+			if (!SORT_PROPERTIES.contains(order.getProperty())) {
+				throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+			}
+		}
+		return employeeRepository.findAllBy(pageable);
+	}
+
+	@GetMapping("/scroll")
+	public Mono<CursorPageDTO<EmployeeView>> scroll(
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "10") int size,
+			@RequestParam(name = "sort", defaultValue = "name") String sort,
+			@RequestParam(name = "direction", defaultValue = "ASC") Direction direction) {
+		KeysetCursor keysetCursor = cursor == null ? KeysetCursor.first(sort, direction) : KeysetCursor.decode(cursor);
+		int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		String property = keysetCursor.getSort().iterator().next().getProperty();
+		return employeeRepository.findAfter(keysetCursor.getPosition(), keysetCursor.getSort(), limit + 1)
+				.collectList()
+				.map(employees -> {
+					boolean hasNext = employees.size() > limit;
+					List<EmployeeView> content = hasNext ? employees.subList(0, limit) : employees;
+					String next = hasNext ? keysetCursor.encode(positionOf(content.get(content.size() - 1), property)) : null;
+					return new CursorPageDTO<>(content, content.size(), next);
+				});
+	}
+
+	/**
+	 * Todos los empleados como NDJSON, leídos con backpressure.
+	 */
+	@GetMapping(value = "/export", produces = NDJSON_VALUE)
+	public Flux<EmployeeView> export() {
+		return employeeRepository.findAll();
+	}
+
+	@GetMapping("/{id}")
+	public Mono<EmployeeView> findById(@PathVariable(name = "id", required = true) String id) {
+		return employeeRepository.findByIdAndActiveTrue(UUID.fromString(id))
+				.switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found: " + id)));
+	}
+
+	@GetMapping("/dni/{dni}")
+	public Mono<EmployeeView> findByDni(@PathVariable(name = "dni", required = true) String dni) {
+		return employeeRepository.findByDniNormalizedAndActiveTrue(EmployeeView.normalizeDni(dni))
+				.switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found: " + dni)));
+	}
+
+	/**
+	 * Igual que {@code POST /lookup} de la aplicación principal: resultado por cada clave recibida, con null
+	 * para las que no tienen un empleado activo.
+	 */
+	@PostMapping("/lookup")
+	public Mono<Map<String, EmployeeView>> lookup(@RequestBody LookupRequestDTO request) {
+		boolean byIds = request.getIds() != null;
+		if (byIds == (request.getDnis() != null)) {
+			return Mono.error(new IllegalArgumentException("Either a list of ids or a list of DNIs must be provided"));
+		}
+		List<?> keys = byIds ? request.getIds() : request.getDnis();
+		if (keys.size() > lookupMaxKeys) {
+			return Mono.error(new IllegalArgumentException("Too many keys, the maximum is " + lookupMaxKeys));
+		}
+		if (keys.stream().anyMatch(Objects::isNull)) {
+			return Mono.error(new IllegalArgumentException("Lookup keys cannot contain null values"));
+		}
+		Map<String, EmployeeView> result = new LinkedHashMap<>();
+		keys.forEach(key -> result.put(key.toString(), null));
+		if (byIds) {
+			return employeeRepository.findByIdInAndActiveTrue(new ArrayList<>(request.getIds()))
+					.doOnNext(employee -> result.put(employee.getId().toString(), employee))
+					.then(Mono.fromSupplier(() -> result));
+		}
+		return employeeRepository.findByDniNormalizedInAndActiveTrue(request.getDnis().stream().map(EmployeeView::normalizeDni).distinct().toList())
+				.collectMultimap(EmployeeView::getDniNormalized)
+				.map(employees -> {
+					request.getDnis().forEach(dni -> employees.getOrDefault(EmployeeView.normalizeDni(dni), List.of()).forEach(employee -> result.put(dni, employee)));
+					return result;
+				});
+	}
+
+	private static KeysetScrollPosition positionOf(EmployeeView employee, String property) {
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put(property, switch (property) {
+			case "name" -> employee.getName();
+			case "firstname" -> employee.getFirstname();
+			case "dni" -> employee.getDni();
+			case "position" -> employee.getPosition();
+			case "birthdate" -> employee.getBirthdate();
+			case "createdAt" -> employee.getCreatedAt();
+			default -> throw new IllegalArgumentException("Unsupported sort property for cursor pagination: " + property);
+		});
+		keys.put("id", employee.getId());
+		return ScrollPosition.forward(keys);
+	}
+}
@@ -0,0 +1,80 @@
+package com.siscon.demo.employee.reactive.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.siscon.demo.employee.utility.Constants;
+
+import lombok.Data;
+
+/**
+ * Empleado de solo lectura mapeado con R2DBC a la misma tabla que la entidad JPA {@code Employee}.
+ * Se serializa con los mismos campos que la aplicación principal.
+ */
+@Data
+@Table(Constants.DB_PREFIX + "_employee")
+public class EmployeeView {
+
+	@Id
+	@Column(Constants.DB_PREFIX + "_uuid")
+	private UUID id;
+
+	@Column(Constants.DB_PREFIX + "_firstname")
+	private String firstname;
+
+	@Column(Constants.DB_PREFIX + "_lastname")
+	private String lastname;
+
+	@Column(Constants.DB_PREFIX + "_middlename")
+	private String middlename;
+
+	@Column(Constants.DB_PREFIX + "_name")
+	private String name;
+
+	@Column(Constants.DB_PREFIX + "_genre")
+	private String genre;
+
+	@Column(Constants.DB_PREFIX + "_birthdate")
+	private LocalDate birthdate;
+
+	@Column(Constants.DB_PREFIX + "_dni")
+	private String dni;
+
+	@JsonIgnore
+	@Column(Constants.DB_PREFIX + "_dni_normalized")
+	private String dniNormalized;
+
+	@Column(Constants.DB_PREFIX + "_position")
+	private String position;
+
+	@Column(Constants.DB_PREFIX + "_created_at")
+	private LocalDateTime createdAt;
+
+	@Column(Constants.DB_PREFIX + "_deleted_at")
+	private LocalDateTime deletedAt;
+
+	@Column(Constants.DB_PREFIX + "_modified_at")
+	private LocalDateTime updatedAt;
+
+	@Column(Constants.DB_PREFIX + "_active")
+	private boolean active;
+
+	public int getAge() {
+		return Period.between(this.birthdate, LocalDate.now()).getYears();
+	}
+
+	/**
+	 * Misma normalización que {@code Employee.normalizeDni}.
+	 */
+	public static String normalizeDni(String dni) {
+		return dni == null ? null : dni.trim().toUpperCase(Locale.ROOT);
+	}
+}
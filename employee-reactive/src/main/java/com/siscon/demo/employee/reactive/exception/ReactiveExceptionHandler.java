@@ -0,0 +1,30 @@
+package com.siscon.demo.employee.reactive.exception;
+
+import java.time.LocalDateTime;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.siscon.demo.employee.exception.GlobalExceptionHandler.ErrorResponse;
+
+/**
+ * Devuelve los errores con el mismo cuerpo ({@link ErrorResponse}) que la aplicación principal.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+	@ExceptionHandler(IllegalArgumentException.class)
+	public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e) {
+		ErrorResponse error = new ErrorResponse("BAD_REQUEST", e.getMessage(), LocalDateTime.now());
+		return ResponseEntity.badRequest().body(error);
+	}
+
+	@ExceptionHandler(ResponseStatusException.class)
+	public ResponseEntity<ErrorResponse> handleResponseStatusException(ResponseStatusException e) {
+		ErrorResponse error = new ErrorResponse(HttpStatus.valueOf(e.getStatusCode().value()).name(), e.getReason(), LocalDateTime.now());
+		return ResponseEntity.status(e.getStatusCode()).body(error);
+	}
+}
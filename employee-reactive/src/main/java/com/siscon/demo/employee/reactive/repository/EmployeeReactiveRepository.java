@@ -0,0 +1,25 @@
+package com.siscon.demo.employee.reactive.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+import com.siscon.demo.employee.reactive.entity.EmployeeView;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface EmployeeReactiveRepository extends R2dbcRepository<EmployeeView, UUID>, EmployeeReactiveRepositoryCustom {
+
+    Mono<EmployeeView> findByIdAndActiveTrue(UUID id);
+    Mono<EmployeeView> findByDniNormalizedAndActiveTrue(String dniNormalized);
+    Flux<EmployeeView> findByIdInAndActiveTrue(Collection<UUID> ids);
+    Flux<EmployeeView> findByDniNormalizedInAndActiveTrue(Collection<String> dnisNormalized);
+
+    /**
+     * Página de empleados sin la consulta COUNT de la versión paginada.
+     */
+    Flux<EmployeeView> findAllBy(Pageable pageable);
+}
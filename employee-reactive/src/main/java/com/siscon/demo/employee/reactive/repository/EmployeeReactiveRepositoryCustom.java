@@ -0,0 +1,19 @@
+package com.siscon.demo.employee.reactive.repository;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import com.siscon.demo.employee.reactive.entity.EmployeeView;
+
+import reactor.core.publisher.Flux;
+
+public interface EmployeeReactiveRepositoryCustom {
+
+    /**
+     * Empleados a partir de una posición keyset, ordenados por un campo y el id como desempate.
+     * @param position Valores del campo de ordenamiento y del id de la última fila leída, vacía para empezar
+     * @param sort Campo de ordenamiento seguido del id, en la misma dirección
+     * @param limit Máximo de filas
+     */
+    Flux<EmployeeView> findAfter(KeysetScrollPosition position, Sort sort, int limit);
+}
@@ -0,0 +1,44 @@
+package com.siscon.demo.employee.reactive.repository;
+
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+
+import com.siscon.demo.employee.reactive.entity.EmployeeView;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@RequiredArgsConstructor
+public class EmployeeReactiveRepositoryCustomImpl implements EmployeeReactiveRepositoryCustom {
+
+    private final R2dbcEntityTemplate template;
+
+    /**
+     * Equivale a {@code WHERE (campo, id) > (?, ?)} (o {@code <} en orden descendente), escrito como
+     * {@code campo > ? OR (campo = ? AND id > ?)} para que lo resuelva el índice compuesto.
+     */
+    @Override
+    public Flux<EmployeeView> findAfter(KeysetScrollPosition position, Sort sort, int limit) {
+        Order order = sort.iterator().next();
+        Criteria criteria = Criteria.empty();
+        Map<String, Object> keys = position.getKeys();
+        if (!keys.isEmpty()) {
+            Object key = keys.get(order.getProperty());
+            Object id = keys.get("id");
+            criteria = order.isAscending()
+                    ? Criteria.where(order.getProperty()).greaterThan(key)
+                            .or(Criteria.where(order.getProperty()).is(key).and("id").greaterThan(id))
+                    : Criteria.where(order.getProperty()).lessThan(key)
+                            .or(Criteria.where(order.getProperty()).is(key).and("id").lessThan(id));
+        }
+        return template.select(EmployeeView.class)
+                .matching(Query.query(criteria).sort(sort).limit(limit))
+                .all();
+    }
+}
@@ -0,0 +1,67 @@
+package com.siscon.demo.employee.reactive;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.siscon.demo.employee.dto.LookupRequestDTO;
+import com.siscon.demo.employee.reactive.controller.EmployeeReactiveController;
+import com.siscon.demo.employee.reactive.entity.EmployeeView;
+import com.siscon.demo.employee.reactive.repository.EmployeeReactiveRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@WebFluxTest(EmployeeReactiveController.class)
+class EmployeeReactiveControllerTests {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@MockitoBean
+	private EmployeeReactiveRepository employeeRepository;
+
+	@Test
+	void findById_returnsNotFoundWhenEmployeeIsMissing() {
+		UUID id = UUID.randomUUID();
+		when(employeeRepository.findByIdAndActiveTrue(id)).thenReturn(Mono.empty());
+
+		webTestClient.get().uri("/api/v1/employees/{id}", id).exchange()
+				.expectStatus().isNotFound()
+				.expectBody().jsonPath("$.code").isEqualTo("NOT_FOUND");
+	}
+
+	@Test
+	void findAll_rejectsUnknownSortProperty() {
+		webTestClient.get().uri("/api/v1/employees/all?sort=password").exchange()
+				.expectStatus().isBadRequest();
+	}
+
+	@Test
+	void lookup_returnsOneEntryPerKeyWithNullForMisses() {
+		EmployeeView employee = new EmployeeView();
+		employee.setId(UUID.randomUUID());
+		employee.setDni("12.345.678");
+		employee.setDniNormalized("12345678");
+		employee.setBirthdate(LocalDate.of(1990, 1, 1));
+		when(employeeRepository.findByDniNormalizedInAndActiveTrue(anyList())).thenReturn(Flux.just(employee));
+		LookupRequestDTO request = new LookupRequestDTO();
+		request.setDnis(List.of("12345678", "99999999"));
+
+		webTestClient.post().uri("/api/v1/employees/lookup").contentType(MediaType.APPLICATION_JSON).bodyValue(request).exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.12345678.dni").isEqualTo("12.345.678")
+				.jsonPath("$.99999999").doesNotExist();
+	}
+}
@@ -0,0 +1,71 @@
+package com.siscon.demo.employee;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.siscon.demo.employee.entity.Employee;
+
+/**
+ * Serialización JSON de las respuestas de {@code GET /{id}} y {@code GET /all}, con un ObjectMapper
+ * configurado como el de Spring Boot y páginas serializadas como {@link PagedModel}
+ * ({@code PageSerializationMode.VIA_DTO}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeJsonBenchmark {
+
+	private static final int PAGE_SIZE = 20;
+
+	private ObjectMapper objectMapper;
+	private Employee employee;
+	private PagedModel<Employee> page;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json()
+				.featuresToDisable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+				.build();
+		List<Employee> employees = new ArrayList<>(PAGE_SIZE);
+		for (int i = 0; i < PAGE_SIZE; i++) {
+			employees.add(new Employee(UUID.randomUUID(), "Daniel", "Joav", "Tiro", "Bravo", "M", LocalDate.of(1984, 12, 13),
+					"TIBD8412" + i, "Java Programmer", true));
+		}
+		employee = employees.get(0);
+		page = new PagedModel<>(new PageImpl<>(employees, PageRequest.of(0, PAGE_SIZE), 1000));
+	}
+
+	@Benchmark
+	public byte[] employee() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(employee);
+	}
+
+	@Benchmark
+	public byte[] page() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(page);
+	}
+}
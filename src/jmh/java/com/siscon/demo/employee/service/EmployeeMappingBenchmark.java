@@ -0,0 +1,70 @@
+package com.siscon.demo.employee.service;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.siscon.demo.employee.dto.EmployeeCreateDTO;
+import com.siscon.demo.employee.entity.Employee;
+
+/**
+ * Conversiones y métodos de la entidad que se ejecutan en cada petición.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeMappingBenchmark {
+
+	private EmployeeCreateDTO createDTO;
+	private Employee existing;
+	private Employee changes;
+
+	@Setup
+	public void setUp() {
+		createDTO = new EmployeeCreateDTO();
+		createDTO.setName("Daniel");
+		createDTO.setFirstname("Tiro");
+		createDTO.setGenre("M");
+		createDTO.setBirthdate(LocalDate.of(1984, 12, 13));
+		createDTO.setDni("TIBD841213Q10");
+		createDTO.setPosition("Java Programmer");
+		createDTO.setActive(true);
+		existing = new Employee(UUID.randomUUID(), "Daniel", null, "Tiro", null, "M", LocalDate.of(1984, 12, 13), "TIBD841213Q10", "Java Programmer", true);
+		changes = new Employee(existing.getId(), "Daniel", "Joav", "Tiros", "Bravos", "M", LocalDate.of(1984, 12, 13), "TIBD841213Q10", "Software Architect", true);
+	}
+
+	@Benchmark
+	public Employee toEmployee() {
+		return createDTO.toEmployee();
+	}
+
+	@Benchmark
+	public Employee updateEmployeeFields() {
+		EmployeeServiceImpl.updateEmployeeFields(existing, changes);
+		return existing;
+	}
+
+	@Benchmark
+	public int getAge() {
+		return existing.getAge();
+	}
+
+	@Benchmark
+	public int hashCodeOfEmployee() {
+		return existing.hashCode();
+	}
+}
@@ -0,0 +1,119 @@
+package com.siscon.demo.employee.service;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.siscon.demo.employee.cache.DniMembershipFilter;
+import com.siscon.demo.employee.dto.EmployeeResultDTO;
+import com.siscon.demo.employee.entity.Employee;
+import com.siscon.demo.employee.repository.EmployeeJdbcRepository;
+import com.siscon.demo.employee.repository.EmployeeRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+
+/**
+ * {@link EmployeeServiceImpl#save(List)} (validación, consulta de DNI existentes e inserción por batch) contra
+ * una base de datos H2 en memoria en modo PostgreSQL.
+ *
+ * <p>H2 no mide la latencia de red ni el costo real de PostgreSQL; el objetivo es detectar regresiones en el
+ * trabajo que hace la aplicación por registro. El filtro de DNI no se carga, por lo que cada bloque consulta
+ * los DNI existentes (el peor caso, igual que mientras el filtro se está cargando).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeSaveBenchmark {
+
+	private static final String CREATE_TABLE_SQL = "CREATE TABLE " + EmployeeJdbcRepository.TABLE + " ("
+			+ EmployeeJdbcRepository.column("uuid") + " UUID PRIMARY KEY, "
+			+ EmployeeJdbcRepository.column("firstname") + " VARCHAR(255) NOT NULL, "
+			+ EmployeeJdbcRepository.column("lastname") + " VARCHAR(255), "
+			+ EmployeeJdbcRepository.column("middlename") + " VARCHAR(255), "
+			+ EmployeeJdbcRepository.column("name") + " VARCHAR(255) NOT NULL, "
+			+ EmployeeJdbcRepository.column("genre") + " VARCHAR(1) NOT NULL, "
+			+ EmployeeJdbcRepository.column("birthdate") + " DATE NOT NULL, "
+			+ EmployeeJdbcRepository.column("dni") + " VARCHAR(25) NOT NULL UNIQUE, "
+			+ EmployeeJdbcRepository.column("dni_normalized") + " VARCHAR(25) UNIQUE, "
+			+ EmployeeJdbcRepository.column("position") + " VARCHAR(255) NOT NULL, "
+			+ EmployeeJdbcRepository.column("created_at") + " TIMESTAMP NOT NULL, "
+			+ EmployeeJdbcRepository.column("deleted_at") + " TIMESTAMP, "
+			+ EmployeeJdbcRepository.column("modified_at") + " TIMESTAMP, "
+			+ EmployeeJdbcRepository.column("active") + " BOOLEAN NOT NULL)";
+
+	private static final int EMPLOYEES = 500;
+
+	private static final String EXISTING_DNIS_SQL = "SELECT " + EmployeeJdbcRepository.column("dni_normalized") + " FROM "
+			+ EmployeeJdbcRepository.TABLE + " WHERE " + EmployeeJdbcRepository.column("dni_normalized") + " IN (:dnis)";
+
+	private JdbcTemplate jdbcTemplate;
+	private EmployeeServiceImpl employeeService;
+	private long sequence;
+
+	@Setup
+	public void setUp() {
+		DataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(), "jdbc:h2:mem:employee;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute(CREATE_TABLE_SQL);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		employeeService = new EmployeeServiceImpl(existingDnisRepository(new NamedParameterJdbcTemplate(dataSource)), transactionManager,
+				new EmployeeJdbcRepository(jdbcTemplate), null, Validation.buildDefaultValidatorFactory().getValidator(), null, null,
+				new DniMembershipFilter(dataSource, transactionManager, true, 1_000_000, 0.01), new ImportExecutor(4, 10),
+				new EmployeeMetrics(new SimpleMeterRegistry()));
+		ReflectionTestUtils.setField(employeeService, "batchSize", EMPLOYEES);
+	}
+
+	@Setup(Level.Iteration)
+	public void truncate() {
+		jdbcTemplate.execute("TRUNCATE TABLE " + EmployeeJdbcRepository.TABLE);
+	}
+
+	@Benchmark
+	public List<EmployeeResultDTO> saveAll() {
+		List<Employee> batch = new ArrayList<>(EMPLOYEES);
+		for (int i = 0; i < EMPLOYEES; i++) {
+			batch.add(new Employee("Daniel", "Joav", "Tiro", "Bravo", "M", LocalDate.of(1984, 12, 13), "DNI" + sequence++, "Java Programmer", true));
+		}
+		return employeeService.save(batch);
+	}
+
+	/**
+	 * Repositorio que solo implementa la consulta de DNI existentes que usa {@code save(List)}, sin levantar JPA.
+	 */
+	private static EmployeeRepository existingDnisRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+		return (EmployeeRepository) Proxy.newProxyInstance(EmployeeRepository.class.getClassLoader(), new Class<?>[] { EmployeeRepository.class },
+				(proxy, method, args) -> {
+					if ("findExistingDnis".equals(method.getName())) {
+						return jdbcTemplate.queryForList(EXISTING_DNIS_SQL, Map.of("dnis", (Collection<?>) args[0]), String.class);
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+	}
+}
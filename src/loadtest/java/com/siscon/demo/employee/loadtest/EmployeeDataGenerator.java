@@ -0,0 +1,124 @@
+package com.siscon.demo.employee.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import com.siscon.demo.employee.entity.Employee;
+
+/**
+ * Generador determinista de empleados sintéticos.
+ *
+ * <p>Cada empleado depende solo de la semilla y de su índice, por lo que cualquier fila se puede volver a
+ * generar sin consultarla: la carga de trabajo usa el mismo generador para actualizar empleados existentes
+ * o enviar DNI duplicados. Los nombres, apellidos y puestos siguen una distribución sesgada (pocos valores
+ * muy frecuentes y una cola larga), como en los datos reales. El DNI tiene el formato de un RFC (cuatro letras
+ * y la fecha de nacimiento) seguido del índice en base 36, lo que lo hace único.</p>
+ */
+public class EmployeeDataGenerator {
+
+	private static final String[] NAMES = { "José", "María", "Juan", "Guadalupe", "Francisco", "Daniel", "Ana", "Luis", "Carlos",
+			"Alejandra", "Miguel", "Fernanda", "Jorge", "Sofía", "Pedro", "Gabriela", "Ricardo", "Patricia", "Eduardo", "Verónica",
+			"Arturo", "Mónica", "Roberto", "Claudia", "Sergio", "Lucía", "Javier", "Diana", "Manuel", "Valeria", "Raúl", "Adriana" };
+
+	private static final String[] SURNAMES = { "Hernández", "García", "Martínez", "López", "González", "Pérez", "Rodríguez",
+			"Sánchez", "Ramírez", "Cruz", "Flores", "Gómez", "Morales", "Vázquez", "Reyes", "Jiménez", "Torres", "Díaz", "Gutiérrez",
+			"Ruiz", "Mendoza", "Aguilar", "Ortiz", "Moreno", "Castillo", "Romero", "Álvarez", "Méndez", "Chávez", "Rivera", "Juárez",
+			"Ramos", "Domínguez", "Herrera", "Medina", "Castro", "Vargas", "Guzmán", "Velázquez", "Tiro", "Bravo", "Rojas" };
+
+	private static final String[] POSITIONS = { "Java Programmer", "Software Development", "QA Analyst", "Project Manager",
+			"DevOps Engineer", "Data Analyst", "Scrum Master", "Software Architect", "Database Administrator", "Technical Writer",
+			"UX Designer", "Security Engineer", "Support Engineer", "Product Owner", "Chief Technology Officer" };
+
+	private static final LocalDate OLDEST_BIRTHDATE = LocalDate.of(1955, 1, 1);
+	private static final int BIRTHDATE_RANGE_DAYS = 50 * 365;
+	private static final int CREATED_AT_RANGE_MINUTES = 5 * 365 * 24 * 60;
+
+	private final long seed;
+	private final LocalDateTime createdAtBase;
+
+	public EmployeeDataGenerator(long seed) {
+		this.seed = seed;
+		this.createdAtBase = LocalDateTime.of(2020, 1, 1, 0, 0);
+	}
+
+	/**
+	 * @return El empleado con el índice indicado, siempre el mismo para la misma semilla
+	 */
+	public Employee employee(long index) {
+		SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+		String name = skewed(random, NAMES);
+		String middlename = random.nextInt(3) == 0 ? skewed(random, NAMES) : null;
+		String firstname = skewed(random, SURNAMES);
+		String lastname = random.nextInt(10) == 0 ? null : skewed(random, SURNAMES);
+		LocalDate birthdate = OLDEST_BIRTHDATE.plusDays(random.nextInt(BIRTHDATE_RANGE_DAYS));
+		Employee employee = new Employee(id(index), name, middlename, firstname, lastname, random.nextBoolean() ? "M" : "F", birthdate,
+				dni(index, name, firstname, lastname, birthdate), skewed(random, POSITIONS), true);
+		employee.setCreatedAt(createdAtBase.plusMinutes(random.nextInt(CREATED_AT_RANGE_MINUTES)));
+		return employee;
+	}
+
+	/**
+	 * @return El id del empleado con el índice indicado (UUID versión 3, basado en la semilla y el índice)
+	 */
+	public UUID id(long index) {
+		return UUID.nameUUIDFromBytes(("employee-" + seed + "-" + index).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Cuerpo JSON de {@code POST /save-all} y {@code PUT}: solo los campos de {@code EmployeeCreateDTO} y,
+	 * si se indica, el id.
+	 */
+	public static Map<String, Object> toBody(Employee employee, boolean withId) {
+		Map<String, Object> body = new LinkedHashMap<>();
+		if (withId) {
+			body.put("id", employee.getId());
+		}
+		body.put("name", employee.getName());
+		body.put("middlename", employee.getMiddlename());
+		body.put("firstname", employee.getFirstname());
+		body.put("lastname", employee.getLastname());
+		body.put("genre", employee.getGenre());
+		body.put("birthdate", employee.getBirthdate().toString());
+		body.put("dni", employee.getDni());
+		body.put("position", employee.getPosition());
+		body.put("active", employee.isActive());
+		return body;
+	}
+
+	public static String randomPosition(SplittableRandom random) {
+		return skewed(random, POSITIONS);
+	}
+
+	/**
+	 * Elige un valor dando más peso a los primeros elementos del arreglo (la probabilidad decrece
+	 * aproximadamente como 1/sqrt(i)).
+	 */
+	private static String skewed(SplittableRandom random, String[] values) {
+		double r = random.nextDouble();
+		return values[(int) (values.length * r * r)];
+	}
+
+	private static String dni(long index, String name, String firstname, String lastname, LocalDate birthdate) {
+		String letters = initial(firstname, 0) + initial(firstname, 1) + (lastname == null ? "X" : initial(lastname, 0)) + initial(name, 0);
+		return letters + String.format(Locale.ROOT, "%02d%02d%02d", birthdate.getYear() % 100, birthdate.getMonthValue(), birthdate.getDayOfMonth())
+				+ Long.toString(index, 36).toUpperCase(Locale.ROOT);
+	}
+
+	private static String initial(String value, int position) {
+		char c = Character.toUpperCase(value.charAt(position));
+		return switch (c) {
+			case 'Á' -> "A";
+			case 'É' -> "E";
+			case 'Í' -> "I";
+			case 'Ó' -> "O";
+			case 'Ú' -> "U";
+			default -> String.valueOf(c);
+		};
+	}
+}
@@ -0,0 +1,59 @@
+package com.siscon.demo.employee.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.siscon.demo.employee.entity.Employee;
+import com.siscon.demo.employee.repository.EmployeeCopyRepository;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Carga los empleados generados por {@link EmployeeDataGenerator} con el mismo COPY + merge que usa
+ * {@code /bulk-load} ({@link EmployeeCopyRepository}), en bloques de una transacción cada uno. Las filas que ya
+ * existen se omiten, así que una carga interrumpida se puede repetir.
+ *
+ * <p>La tabla debe existir: se crea al iniciar la aplicación una vez contra la misma base de datos.</p>
+ */
+@Log4j2
+public class EmployeeSeeder {
+
+	private final EmployeeCopyRepository copyRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final EmployeeDataGenerator generator;
+
+	public EmployeeSeeder(DataSource dataSource, EmployeeDataGenerator generator) {
+		this.copyRepository = new EmployeeCopyRepository(new JdbcTemplate(dataSource));
+		this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		this.generator = generator;
+	}
+
+	/**
+	 * @param rows Empleados a cargar, con índices de 0 a {@code rows - 1}
+	 * @param chunkSize Empleados por transacción
+	 * @return Empleados insertados (sin contar los que ya existían)
+	 */
+	public long seed(long rows, int chunkSize) {
+		long inserted = 0;
+		long start = System.currentTimeMillis();
+		for (long from = 0; from < rows; from += chunkSize) {
+			List<Employee> chunk = new ArrayList<>(chunkSize);
+			for (long index = from; index < Math.min(from + chunkSize, rows); index++) {
+				chunk.add(generator.employee(index));
+			}
+			boolean[] result = transactionTemplate.execute(status -> copyRepository.copyAndMerge(chunk));
+			for (boolean row : result) {
+				inserted += row ? 1 : 0;
+			}
+			long loaded = Math.min(from + chunkSize, rows);
+			log.info("Seeded " + loaded + "/" + rows + " employees (" + inserted + " new) in " + (System.currentTimeMillis() - start) + " ms");
+		}
+		return inserted;
+	}
+}
@@ -0,0 +1,79 @@
+package com.siscon.demo.employee.loadtest;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencias (HdrHistogram, en microsegundos) y contadores de una operación de la carga de trabajo.
+ */
+public class EndpointStats {
+
+	private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+	private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+	/**
+	 * @param status Código HTTP, o -1 si la petición no obtuvo respuesta
+	 */
+	public void record(long latencyNanos, int status) {
+		latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS));
+		requests.increment();
+		if (status < 200 || status >= 300) {
+			errors.increment();
+		}
+		statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+	}
+
+	/**
+	 * Suma de varias operaciones, para comparar corridas con un solo throughput y percentil.
+	 */
+	public static EndpointStats total(Collection<EndpointStats> stats) {
+		EndpointStats total = new EndpointStats();
+		stats.forEach(endpointStats -> {
+			total.latencies.add(endpointStats.latencies);
+			total.requests.add(endpointStats.requests.sum());
+			total.errors.add(endpointStats.errors.sum());
+			endpointStats.statuses.forEach((status, count) -> total.statuses.computeIfAbsent(status, key -> new LongAdder()).add(count.sum()));
+		});
+		return total;
+	}
+
+	/**
+	 * Resumen para el archivo de resultados.
+	 * @param seconds Duración de la medición, para calcular el throughput
+	 */
+	public Map<String, Object> toMap(double seconds) {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("requests", requests.sum());
+		result.put("errors", errors.sum());
+		result.put("throughput", requests.sum() / seconds);
+		Map<String, Long> byStatus = new LinkedHashMap<>();
+		statuses.entrySet().stream().sorted(Map.Entry.comparingByKey())
+				.forEach(entry -> byStatus.put(String.valueOf(entry.getKey()), entry.getValue().sum()));
+		result.put("statuses", byStatus);
+		Map<String, Double> latency = new LinkedHashMap<>();
+		latency.put("mean", latencies.getMean() / 1000.0);
+		latency.put("p50", percentile(50));
+		latency.put("p90", percentile(90));
+		latency.put("p95", percentile(95));
+		latency.put("p99", percentile(99));
+		latency.put("p999", percentile(99.9));
+		latency.put("max", latencies.getMaxValue() / 1000.0);
+		result.put("latencyMs", latency);
+		return result;
+	}
+
+	private double percentile(double percentile) {
+		return latencies.getValueAtPercentile(percentile) / 1000.0;
+	}
+}
@@ -0,0 +1,96 @@
+package com.siscon.demo.employee.loadtest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import javax.sql.DataSource;
+
+import com.siscon.demo.employee.utility.EmployeeIdGenerator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Compara las estrategias de {@link EmployeeIdGenerator} insertando {@code rows} filas en una tabla temporal
+ * con llave primaria uuid por cada estrategia: filas por segundo (total y en el último 10%, cuando el índice
+ * ya no cabe en memoria) y tamaño del índice de la llave primaria y de la tabla al terminar.
+ *
+ * <p>Las inserciones son por lotes de JDBC, como {@code EmployeeJdbcRepository}, y cada tabla se elimina al
+ * terminar.</p>
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class IdStrategyBenchmark {
+
+	private static final int BATCH_SIZE = 1000;
+	private static final int COMMIT_SIZE = 50_000;
+
+	private final DataSource dataSource;
+
+	public Map<String, Object> run(long rows) throws SQLException {
+		Map<String, Object> result = new LinkedHashMap<>();
+		for (EmployeeIdGenerator.Strategy strategy : EmployeeIdGenerator.Strategy.values()) {
+			result.put(strategy.name().toLowerCase().replace('_', '-'), run(strategy, rows));
+		}
+		return result;
+	}
+
+	private Map<String, Object> run(EmployeeIdGenerator.Strategy strategy, long rows) throws SQLException {
+		String table = "employee_id_benchmark_" + strategy.name().toLowerCase();
+		Random random = new Random(rows);
+		try (Connection connection = dataSource.getConnection()) {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("DROP TABLE IF EXISTS " + table);
+				statement.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, dni varchar(25) NOT NULL, created_at timestamp NOT NULL)");
+			}
+			connection.setAutoCommit(false);
+			long tailStart = rows - rows / 10;
+			long start = System.nanoTime();
+			long tailStartNanos = start;
+			try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table + " (id, dni, created_at) VALUES (?, ?, ?)")) {
+				for (long i = 0; i < rows; i++) {
+					if (i == tailStart) {
+						tailStartNanos = System.nanoTime();
+					}
+					insert.setObject(1, EmployeeIdGenerator.next(strategy));
+					insert.setString(2, Long.toString(random.nextLong() & Long.MAX_VALUE, 36));
+					insert.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+					insert.addBatch();
+					if ((i + 1) % BATCH_SIZE == 0 || i + 1 == rows) {
+						insert.executeBatch();
+					}
+					if ((i + 1) % COMMIT_SIZE == 0 || i + 1 == rows) {
+						connection.commit();
+						log.info(strategy + ": " + (i + 1) + "/" + rows + " rows");
+					}
+				}
+			}
+			long end = System.nanoTime();
+			connection.setAutoCommit(true);
+
+			Map<String, Object> result = new LinkedHashMap<>();
+			result.put("rows", rows);
+			result.put("seconds", (end - start) / 1e9);
+			result.put("rowsPerSecond", rows / ((end - start) / 1e9));
+			result.put("lastTenPercentRowsPerSecond", (rows - tailStart) / ((end - tailStartNanos) / 1e9));
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("VACUUM ANALYZE " + table);
+				try (ResultSet sizes = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey'), pg_relation_size('" + table + "')")) {
+					sizes.next();
+					result.put("primaryKeyIndexBytes", sizes.getLong(1));
+					result.put("tableBytes", sizes.getLong(2));
+				}
+				statement.execute("DROP TABLE " + table);
+			}
+			return result;
+		}
+	}
+}
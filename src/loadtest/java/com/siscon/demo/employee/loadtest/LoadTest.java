@@ -0,0 +1,149 @@
+package com.siscon.demo.employee.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Punto de entrada de las pruebas de carga ({@code mvn -Ploadtest test-compile exec:java -Dexec.args="..."}).
+ *
+ * <ul>
+ *   <li>{@code seed}: carga {@code --rows} empleados sintéticos en PostgreSQL ({@code --jdbc-url},
+ *       {@code --username}, {@code --password}, {@code --seed}, {@code --chunk-size})</li>
+ *   <li>{@code run}: ejecuta la carga de trabajo mixta contra la API ({@code --base-url}, {@code --rows},
+ *       {@code --seed}, {@code --threads}, {@code --warmup}, {@code --duration}, {@code --mix},
+ *       {@code --batch-size}, {@code --duplicate-ratio}, {@code --label}) y escribe los resultados, por
+ *       operación y en total, en {@code --output}</li>
+ * </ul>
+ *
+ * <p>{@code --rows} y {@code --seed} deben ser los mismos en {@code seed} y {@code run}, la carga de trabajo
+ * vuelve a generar los empleados cargados a partir de ellos.</p>
+ *
+ * <p>{@code ids} compara las estrategias de ids insertando {@code --rows} filas por estrategia en PostgreSQL
+ * ({@link IdStrategyBenchmark}) y escribe los resultados en {@code --output}.</p>
+ */
+@Log4j2
+public class LoadTest {
+
+	private static final Map<String, String> DEFAULTS = Map.ofEntries(
+			Map.entry("jdbc-url", "jdbc:postgresql://localhost:5432/siscon"),
+			Map.entry("username", "postgres"),
+			Map.entry("password", "admin123"),
+			Map.entry("base-url", "http://localhost:8081"),
+			Map.entry("rows", "1000000"),
+			Map.entry("seed", "42"),
+			Map.entry("chunk-size", "50000"),
+			Map.entry("threads", "16"),
+			Map.entry("warmup", "30s"),
+			Map.entry("duration", "2m"),
+			Map.entry("mix", "get=40,list=20,save_all=10,update=20,delete=10"),
+			Map.entry("batch-size", "100"),
+			Map.entry("duplicate-ratio", "0.1"),
+			Map.entry("label", ""),
+			Map.entry("output", "target/loadtest/result-" + System.currentTimeMillis() + ".json"));
+
+	public static void main(String[] args) throws Exception {
+		if (args.length == 0 || !("seed".equals(args[0]) || "run".equals(args[0]) || "ids".equals(args[0]))) {
+			throw new IllegalArgumentException("Usage: seed|run|ids [--option value ...], see LoadTest for the options");
+		}
+		Map<String, String> options = options(args);
+		if ("ids".equals(args[0])) {
+			DriverManagerDataSource dataSource = new DriverManagerDataSource(options.get("jdbc-url"), options.get("username"), options.get("password"));
+			Map<String, Object> result = new LinkedHashMap<>();
+			result.put("timestamp", Instant.now().toString());
+			result.put("label", options.get("label"));
+			result.put("strategies", new IdStrategyBenchmark(dataSource).run(Long.parseLong(options.get("rows"))));
+			write(options, result, result.get("strategies"));
+			return;
+		}
+		long rows = Long.parseLong(options.get("rows"));
+		long seed = Long.parseLong(options.get("seed"));
+		EmployeeDataGenerator generator = new EmployeeDataGenerator(seed);
+		if ("seed".equals(args[0])) {
+			DriverManagerDataSource dataSource = new DriverManagerDataSource(options.get("jdbc-url"), options.get("username"), options.get("password"));
+			long inserted = new EmployeeSeeder(dataSource, generator).seed(rows, Integer.parseInt(options.get("chunk-size")));
+			log.info("Seed finished, " + inserted + " new employees");
+			return;
+		}
+		run(options, generator, rows, seed);
+	}
+
+	private static void run(Map<String, String> options, EmployeeDataGenerator generator, long rows, long seed) throws InterruptedException, IOException {
+		Map<String, Integer> mix = new LinkedHashMap<>();
+		for (String entry : options.get("mix").split(",")) {
+			String[] weight = entry.split("=");
+			if (!WorkloadRunner.OPERATIONS.contains(weight[0].trim())) {
+				throw new IllegalArgumentException("Unknown operation in --mix: " + weight[0] + ", expected one of " + WorkloadRunner.OPERATIONS);
+			}
+			mix.put(weight[0].trim(), Integer.parseInt(weight[1].trim()));
+		}
+		int threads = Integer.parseInt(options.get("threads"));
+		Duration warmup = duration(options.get("warmup"));
+		Duration duration = duration(options.get("duration"));
+		WorkloadRunner runner = new WorkloadRunner(generator, options.get("base-url"), rows, seed, mix,
+				Integer.parseInt(options.get("batch-size")), Double.parseDouble(options.get("duplicate-ratio")));
+		Map<String, EndpointStats> stats = runner.run(threads, warmup, duration);
+
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("timestamp", Instant.now().toString());
+		result.put("label", options.get("label"));
+		result.put("baseUrl", options.get("base-url"));
+		result.put("rows", rows);
+		result.put("seed", seed);
+		result.put("threads", threads);
+		result.put("warmupSeconds", warmup.toSeconds());
+		result.put("durationSeconds", duration.toSeconds());
+		result.put("mix", mix);
+		result.put("batchSize", Integer.parseInt(options.get("batch-size")));
+		result.put("duplicateRatio", Double.parseDouble(options.get("duplicate-ratio")));
+		Map<String, Object> endpoints = new LinkedHashMap<>();
+		stats.forEach((operation, endpointStats) -> {
+			if (mix.getOrDefault(operation, 0) > 0) {
+				endpoints.put(operation, endpointStats.toMap(duration.toMillis() / 1000.0));
+			}
+		});
+		result.put("total", EndpointStats.total(stats.values()).toMap(duration.toMillis() / 1000.0));
+		result.put("endpoints", endpoints);
+		write(options, result, result.get("total"));
+	}
+
+	private static void write(Map<String, String> options, Map<String, Object> result, Object summary) throws IOException {
+		File output = new File(options.get("output"));
+		if (output.getParentFile() != null) {
+			output.getParentFile().mkdirs();
+		}
+		ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+		objectMapper.writeValue(output, result);
+		log.info("Results written to " + output.getAbsolutePath() + System.lineSeparator() + objectMapper.writeValueAsString(summary));
+	}
+
+	private static Map<String, String> options(String[] args) {
+		Map<String, String> options = new HashMap<>(DEFAULTS);
+		for (int i = 1; i < args.length; i += 2) {
+			String name = args[i].startsWith("--") ? args[i].substring(2) : null;
+			if (name == null || !DEFAULTS.containsKey(name) || i + 1 >= args.length) {
+				throw new IllegalArgumentException("Invalid option: " + args[i]);
+			}
+			options.put(name, args[i + 1]);
+		}
+		return options;
+	}
+
+	/**
+	 * Duraciones como {@code 30s}, {@code 2m} o {@code 1h}.
+	 */
+	private static Duration duration(String value) {
+		return Duration.parse("PT" + value.toUpperCase());
+	}
+}
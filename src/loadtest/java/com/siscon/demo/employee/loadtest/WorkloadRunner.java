@@ -0,0 +1,183 @@
+package com.siscon.demo.employee.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siscon.demo.employee.entity.Employee;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Carga de trabajo mixta contra la API: cada hilo elige una operación según los pesos configurados y
+ * registra su latencia en {@link EndpointStats}. Las peticiones de la fase de calentamiento no se registran.
+ *
+ * <p>Operaciones:</p>
+ * <ul>
+ *   <li>{@code get}: {@code GET /{id}} de un empleado cargado al azar</li>
+ *   <li>{@code list}: {@code GET /all} de una página profunda (segunda mitad de la tabla)</li>
+ *   <li>{@code save_all}: {@code POST /save-all} con {@code batchSize} empleados nuevos, de los que una
+ *       fracción {@code duplicateRatio} repite el DNI de un empleado cargado</li>
+ *   <li>{@code update}: {@code PUT} de un empleado cargado con otro puesto</li>
+ *   <li>{@code delete}: {@code DELETE /{id}} de los empleados cargados, empezando por el último índice (cada
+ *       empleado se borra una vez; al repetir la prueba sin volver a cargar los datos responden 500)</li>
+ * </ul>
+ */
+@Log4j2
+public class WorkloadRunner {
+
+	public static final List<String> OPERATIONS = List.of("get", "list", "save_all", "update", "delete");
+
+	private static final String API_PATH = "/api/v1/employees";
+	private static final int LIST_PAGE_SIZE = 50;
+
+	private final HttpClient client = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(10))
+			.build();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+	private final EmployeeDataGenerator generator;
+	private final String baseUrl;
+	private final long rows;
+	private final long seed;
+	private final int[] weights;
+	private final int totalWeight;
+	private final int batchSize;
+	private final double duplicateRatio;
+	private final AtomicLong nextNewIndex;
+	private final AtomicLong nextDeleteIndex;
+	private volatile boolean recording;
+	private volatile boolean running = true;
+
+	public WorkloadRunner(EmployeeDataGenerator generator, String baseUrl, long rows, long seed, Map<String, Integer> mix,
+			int batchSize, double duplicateRatio) {
+		this.generator = generator;
+		this.baseUrl = baseUrl + API_PATH;
+		this.rows = rows;
+		this.seed = seed;
+		this.weights = OPERATIONS.stream().mapToInt(operation -> mix.getOrDefault(operation, 0)).toArray();
+		this.totalWeight = Arrays.stream(weights).sum();
+		if (totalWeight <= 0) {
+			throw new IllegalArgumentException("The workload mix must have at least one operation with a positive weight");
+		}
+		this.batchSize = batchSize;
+		this.duplicateRatio = duplicateRatio;
+		// Los empleados nuevos usan índices fuera del rango cargado y distintos en cada ejecución
+		this.nextNewIndex = new AtomicLong(rows + System.currentTimeMillis() * 1_000);
+		this.nextDeleteIndex = new AtomicLong(rows - 1);
+		OPERATIONS.forEach(operation -> stats.put(operation, new EndpointStats()));
+	}
+
+	/**
+	 * Ejecuta la carga de trabajo y devuelve las estadísticas por operación.
+	 */
+	public Map<String, EndpointStats> run(int threads, Duration warmup, Duration duration) throws InterruptedException {
+		List<Thread> workers = new ArrayList<>(threads);
+		for (int i = 0; i < threads; i++) {
+			SplittableRandom random = new SplittableRandom(seed + i);
+			Thread worker = new Thread(() -> work(random), "loadtest-" + i);
+			worker.start();
+			workers.add(worker);
+		}
+		log.info("Warming up for " + warmup);
+		Thread.sleep(warmup.toMillis());
+		recording = true;
+		log.info("Measuring for " + duration);
+		Thread.sleep(duration.toMillis());
+		running = false;
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		return stats;
+	}
+
+	private void work(SplittableRandom random) {
+		while (running) {
+			String operation = pick(random);
+			long start = System.nanoTime();
+			int status;
+			try {
+				status = send(request(operation, random));
+			} catch (IOException e) {
+				status = -1;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			if (recording && running) {
+				stats.get(operation).record(System.nanoTime() - start, status);
+			}
+		}
+	}
+
+	private String pick(SplittableRandom random) {
+		int value = random.nextInt(totalWeight);
+		for (int i = 0; i < weights.length; i++) {
+			value -= weights[i];
+			if (value < 0) {
+				return OPERATIONS.get(i);
+			}
+		}
+		throw new IllegalStateException("Unreachable");
+	}
+
+	private HttpRequest request(String operation, SplittableRandom random) throws JsonProcessingException {
+		return switch (operation) {
+			case "get" -> get("/" + generator.id(random.nextLong(rows)));
+			case "list" -> {
+				long pages = Math.max(1, rows / LIST_PAGE_SIZE);
+				long page = pages / 2 + random.nextLong(Math.max(1, pages - pages / 2));
+				yield get("/all?page=" + page + "&size=" + LIST_PAGE_SIZE + "&sort=name");
+			}
+			case "save_all" -> {
+				List<Map<String, Object>> body = new ArrayList<>(batchSize);
+				for (int i = 0; i < batchSize; i++) {
+					long index = random.nextDouble() < duplicateRatio ? random.nextLong(rows) : nextNewIndex.getAndIncrement();
+					body.add(EmployeeDataGenerator.toBody(generator.employee(index), false));
+				}
+				yield withBody("POST", "/save-all", body);
+			}
+			case "update" -> {
+				Employee employee = generator.employee(random.nextLong(rows));
+				employee.setPosition(EmployeeDataGenerator.randomPosition(random));
+				yield withBody("PUT", "", EmployeeDataGenerator.toBody(employee, true));
+			}
+			case "delete" -> {
+				long index = nextDeleteIndex.getAndDecrement();
+				UUID id = generator.id(index >= 0 ? index : random.nextLong(rows));
+				yield HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).timeout(Duration.ofSeconds(60)).DELETE().build();
+			}
+			default -> throw new IllegalArgumentException("Unknown operation: " + operation);
+		};
+	}
+
+	private HttpRequest get(String path) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60)).GET().build();
+	}
+
+	private HttpRequest withBody(String method, String path, Object body) throws JsonProcessingException {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path))
+				.timeout(Duration.ofSeconds(60))
+				.header("Content-Type", "application/json")
+				.method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+				.build();
+	}
+
+	private int send(HttpRequest request) throws IOException, InterruptedException {
+		return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+	}
+}
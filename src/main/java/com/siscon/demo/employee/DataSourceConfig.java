@@ -0,0 +1,66 @@
+package com.siscon.demo.employee;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.siscon.demo.employee.utility.ConcurrencyLimitingDataSource;
+import com.siscon.demo.employee.utility.StatementTimingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Configuración del DataSource de la aplicación.
+ *
+ * <p>Con {@code employee.datasource.concurrency-limit.enabled} el DataSource de la aplicación se envuelve en
+ * un {@link ConcurrencyLimitingDataSource}, con tantos permisos como conexiones tenga el pool (o
+ * {@code employee.datasource.concurrency-limit.permits} si se indica).</p>
+ *
+ * <p>Con {@code employee.request-timing.enabled} (por defecto) se envuelve además en un
+ * {@link StatementTimingDataSource}, que cuenta y mide las sentencias SQL de cada petición.</p>
+ */
+@Log4j2
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.datasource.concurrency-limit.enabled", havingValue = "true")
+    static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(
+            @Value("${employee.datasource.concurrency-limit.permits:0}") int permits,
+            @Value("${employee.datasource.concurrency-limit.acquire-timeout:30s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitingDataSource) {
+                    return bean;
+                }
+                HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+                int maxConcurrency = permits > 0 ? permits : hikari != null ? hikari.getMaximumPoolSize() : 10;
+                log.info("Limiting DataSource '" + beanName + "' to " + maxConcurrency + " concurrent connections");
+                return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, acquireTimeout);
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.request-timing.enabled", havingValue = "true", matchIfMissing = true)
+    static BeanPostProcessor statementTimingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof StatementTimingDataSource) {
+                    return bean;
+                }
+                return new StatementTimingDataSource(dataSource);
+            }
+        };
+    }
+}
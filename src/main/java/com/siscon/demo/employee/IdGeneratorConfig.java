@@ -0,0 +1,22 @@
+package com.siscon.demo.employee;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import com.siscon.demo.employee.utility.EmployeeIdGenerator;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Aplica {@code employee.id.strategy} a {@link EmployeeIdGenerator}, que también usa Hibernate y por lo tanto
+ * no es un bean.
+ */
+@Log4j2
+@Configuration
+public class IdGeneratorConfig {
+
+	public IdGeneratorConfig(@Value("${employee.id.strategy:time-ordered}") String strategy) {
+		EmployeeIdGenerator.setStrategy(EmployeeIdGenerator.Strategy.from(strategy));
+		log.info("Employee id strategy: " + EmployeeIdGenerator.getStrategy());
+	}
+}
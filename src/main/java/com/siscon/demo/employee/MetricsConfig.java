@@ -0,0 +1,21 @@
+package com.siscon.demo.employee;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Habilita {@link io.micrometer.core.annotation.Timed} sobre los beans de la aplicación
+ * (servicio y repositorios JDBC). Los tiempos de los endpoints, del pool de Hikari, de Hibernate y de los
+ * repositorios de Spring Data los registra Spring Boot automáticamente.
+ */
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	TimedAspect timedAspect(MeterRegistry registry) {
+		return new TimedAspect(registry);
+	}
+}
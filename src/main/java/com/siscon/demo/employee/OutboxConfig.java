@@ -0,0 +1,34 @@
+package com.siscon.demo.employee;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siscon.demo.employee.outbox.EmployeeEventPublisher;
+import com.siscon.demo.employee.outbox.FileEmployeeEventPublisher;
+import com.siscon.demo.employee.outbox.InMemoryEmployeeEventPublisher;
+
+/**
+ * Elige el destino de los eventos del outbox con {@code employee.outbox.publisher}: {@code file} (por
+ * defecto) los agrega a {@code employee.outbox.file} como NDJSON y {@code memory} los guarda en memoria.
+ */
+@Configuration
+public class OutboxConfig {
+
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(name = "employee.outbox.publisher", havingValue = "file", matchIfMissing = true)
+	EmployeeEventPublisher fileEmployeeEventPublisher(ObjectMapper objectMapper,
+			@Value("${employee.outbox.file:outbox/employee-events.ndjson}") Path path) {
+		return new FileEmployeeEventPublisher(objectMapper, path);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "employee.outbox.publisher", havingValue = "memory")
+	EmployeeEventPublisher inMemoryEmployeeEventPublisher() {
+		return new InMemoryEmployeeEventPublisher();
+	}
+}
@@ -1,11 +1,17 @@
 package com.siscon.demo.employee;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.siscon.demo.employee.utility.RequestHeadersInterceptor;
+import com.siscon.demo.employee.utility.RequestTimingInterceptor;
+import com.siscon.demo.employee.utility.TimingJsonHttpMessageConverter;
 
 /**
  * Configuración para registrar interceptores en la aplicación.
@@ -14,18 +20,29 @@ import com.siscon.demo.employee.utility.RequestHeadersInterceptor;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final RequestHeadersInterceptor requestHeadersInterceptor;
+    private final ObjectProvider<RequestTimingInterceptor> requestTimingInterceptor;
     
     @Autowired
-    public WebMvcConfig(RequestHeadersInterceptor requestHeadersInterceptor) {
+    public WebMvcConfig(RequestHeadersInterceptor requestHeadersInterceptor, ObjectProvider<RequestTimingInterceptor> requestTimingInterceptor) {
         this.requestHeadersInterceptor = requestHeadersInterceptor;
+        this.requestTimingInterceptor = requestTimingInterceptor;
+    }
+    
+    /**
+     * Reemplaza el conversor JSON de Spring Boot por uno que mide el tiempo de serialización.
+     */
+    @Bean
+    MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimingJsonHttpMessageConverter(objectMapper);
     }
     
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(requestHeadersInterceptor)
                 .addPathPatterns("/**");
+        requestTimingInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor).addPathPatterns("/**"));
 
         // Opcionalmente excluir ciertas rutas
         // .excludePathPatterns("/health", "/metrics", "/static/**");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,120 @@
+package com.siscon.demo.employee.cache;
+
+import static com.siscon.demo.employee.repository.EmployeeJdbcRepository.column;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.siscon.demo.employee.entity.Employee;
+import com.siscon.demo.employee.repository.EmployeeJdbcRepository;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Filtro de Bloom en memoria con los DNI normalizados existentes.
+ *
+ * <p>Permite omitir la consulta de duplicados para la mayoría de los empleados nuevos: si
+ * {@link #mightContain(String)} devuelve false, el DNI no existe (en esta instancia). Un true puede ser
+ * un falso positivo, por lo que en ese caso se debe consultar la base de datos.</p>
+ *
+ * <p>Se carga en segundo plano al iniciar la aplicación; mientras no termina, {@link #mightContain(String)}
+ * devuelve siempre true. Si hay empleados sin DNI normalizado (no se pudieron completar al iniciar), el filtro
+ * no se carga y sigue devolviendo true, ya que no puede descartar esos DNI. Los DNI escritos por otras instancias no llegan al filtro, por eso el índice único
+ * sobre el DNI normalizado sigue siendo la garantía final contra duplicados.</p>
+ */
+@Log4j2
+@Component
+public class DniMembershipFilter {
+
+	private static final String COUNT_NOT_NORMALIZED_SQL = "SELECT count(*) FROM " + EmployeeJdbcRepository.TABLE
+			+ " WHERE " + column("dni_normalized") + " IS NULL";
+
+	private static final String SELECT_DNIS_SQL = "SELECT " + column("dni_normalized") + " FROM "
+			+ EmployeeJdbcRepository.TABLE + " WHERE " + column("dni_normalized") + " IS NOT NULL";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean enabled;
+	/** Seguro entre hilos sin bloqueos externos; {@code ready} publica la carga inicial. */
+	private final BloomFilter<CharSequence> filter;
+
+	private volatile boolean ready;
+
+	public DniMembershipFilter(DataSource dataSource, PlatformTransactionManager transactionManager,
+			@Value("${employee.dni-filter.enabled:true}") boolean enabled,
+			@Value("${employee.dni-filter.expected-insertions:1000000}") int expectedInsertions,
+			@Value("${employee.dni-filter.fpp:0.01}") double fpp) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.jdbcTemplate.setFetchSize(10_000);
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.enabled = enabled;
+		this.filter = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, fpp);
+	}
+
+	/**
+	 * @return false si el DNI seguro no existe, true si puede existir (también para un DNI null o vacío, que
+	 *         se deja a la validación y a la consulta de la base de datos)
+	 */
+	public boolean mightContain(String dni) {
+		if (!ready || dni == null || dni.isBlank()) {
+			return true;
+		}
+		return filter.mightContain(Employee.normalizeDni(dni));
+	}
+
+	public void put(String dni) {
+		if (!enabled || dni == null) {
+			return;
+		}
+		filter.put(Employee.normalizeDni(dni));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (!enabled) {
+			return;
+		}
+		Thread loader = new Thread(this::load, "employee-dni-filter");
+		loader.setDaemon(true);
+		loader.start();
+	}
+
+	private void load() {
+		try {
+			long start = System.currentTimeMillis();
+			int[] count = { 0 };
+			boolean loaded = transactionTemplate.execute(status -> {
+				Long notNormalized = jdbcTemplate.queryForObject(COUNT_NOT_NORMALIZED_SQL, Long.class);
+				if (notNormalized != null && notNormalized > 0) {
+					log.error("DNI filter not loaded, " + notNormalized + " employee(s) have no normalized DNI; duplicate checks will always query the database");
+					return false;
+				}
+				jdbcTemplate.query(SELECT_DNIS_SQL, rs -> {
+					put(rs.getString(1));
+					count[0]++;
+				});
+				return true;
+			});
+			if (!loaded) {
+				return;
+			}
+			ready = true;
+			log.info("DNI filter loaded with " + count[0] + " DNI(s) in " + (System.currentTimeMillis() - start) + " ms");
+		} catch (RuntimeException e) {
+			log.error("DNI filter could not be loaded, duplicate checks will always query the database: " + ExceptionUtils.getRootCauseMessage(e));
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package com.siscon.demo.employee.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.siscon.demo.employee.entity.Employee;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+/**
+ * Caché en memoria de empleados activos, por id y por DNI normalizado.
+ *
+ * <p>Ambas cachés tienen tamaño máximo y expiración desde la escritura, y publican sus métricas
+ * (hits, misses, evictions, tamaño) en el {@link MeterRegistry} como {@code cache.*} con los nombres
+ * {@code employee.byId} y {@code employee.byDni}.</p>
+ *
+ * <p>Las operaciones {@code *AfterCommit} se aplican cuando la transacción en curso se confirma, de modo que
+ * un rollback no deja en la caché datos que nunca llegaron a la base de datos.</p>
+ *
+ * <p>Cada escritura o invalidación incrementa una generación. Una lectura que no encontró el empleado toma la
+ * generación antes de consultar la base de datos y lo guarda con {@link #putIfCurrent(Employee, long)}, que lo
+ * descarta si hubo una invalidación mientras tanto: así una lectura lenta no reemplaza con datos anteriores
+ * un cambio confirmado después de ella.</p>
+ *
+ * <p>La caché guarda copias y entrega copias, de modo que quien modifique el empleado recibido (o la
+ * entidad administrada que se guardó) no altera lo que leen los demás.</p>
+ */
+@Component
+public class EmployeeCache {
+
+	private final Cache<UUID, Employee> employeesById;
+	private final Cache<String, UUID> idsByDni;
+	private volatile long generation;
+
+	public EmployeeCache(@Value("${employee.cache.maximum-size:10000}") long maximumSize,
+			@Value("${employee.cache.ttl:10m}") Duration ttl, MeterRegistry meterRegistry) {
+		this.employeesById = CacheBuilder.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(ttl.toMillis(), TimeUnit.MILLISECONDS)
+				.recordStats()
+				.build();
+		this.idsByDni = CacheBuilder.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(ttl.toMillis(), TimeUnit.MILLISECONDS)
+				.recordStats()
+				.build();
+		GuavaCacheMetrics.monitor(meterRegistry, employeesById, "employee.byId");
+		GuavaCacheMetrics.monitor(meterRegistry, idsByDni, "employee.byDni");
+	}
+
+	public Optional<Employee> getById(UUID id) {
+		return Optional.ofNullable(employeesById.getIfPresent(id)).map(Employee::copy);
+	}
+
+	public Optional<UUID> getIdByDni(String dni) {
+		return Optional.ofNullable(idsByDni.getIfPresent(normalize(dni)));
+	}
+
+	/**
+	 * Guarda el empleado si está activo; un empleado inactivo se elimina de la caché.
+	 */
+	public synchronized void put(Employee employee) {
+		evict(employee.getId());
+		if (!employee.isActive()) {
+			return;
+		}
+		employeesById.put(employee.getId(), employee.copy());
+		idsByDni.put(normalize(employee.getDni()), employee.getId());
+	}
+
+	/**
+	 * Generación actual; se toma antes de leer de la base de datos un empleado que no estaba en caché.
+	 */
+	public long generation() {
+		return generation;
+	}
+
+	/**
+	 * Guarda un empleado leído de la base de datos, si está activo, solo si no hubo escrituras ni
+	 * invalidaciones desde {@code generation} y no hay ya una entrada para su id.
+	 * @param generation Valor de {@link #generation()} tomado antes de la lectura
+	 * @return true si el empleado quedó en la caché
+	 */
+	public synchronized boolean putIfCurrent(Employee employee, long generation) {
+		if (generation != this.generation || !employee.isActive()
+				|| employeesById.asMap().putIfAbsent(employee.getId(), employee.copy()) != null) {
+			return false;
+		}
+		idsByDni.put(normalize(employee.getDni()), employee.getId());
+		return true;
+	}
+
+	/**
+	 * Elimina el empleado y su DNI de la caché.
+	 */
+	public synchronized void evict(UUID id) {
+		generation++;
+		Employee cached = employeesById.getIfPresent(id);
+		employeesById.invalidate(id);
+		if (cached != null) {
+			idsByDni.invalidate(normalize(cached.getDni()));
+		}
+	}
+
+	public synchronized void evictAll(Collection<UUID> ids) {
+		ids.forEach(this::evict);
+	}
+
+	public synchronized void clear() {
+		generation++;
+		employeesById.invalidateAll();
+		idsByDni.invalidateAll();
+	}
+
+	public void putAfterCommit(Employee employee) {
+		afterCommit(() -> put(employee));
+	}
+
+	public void evictAfterCommit(UUID id) {
+		afterCommit(() -> evict(id));
+	}
+
+	public void evictAllAfterCommit(Collection<UUID> ids) {
+		afterCommit(() -> evictAll(ids));
+	}
+
+	public static String normalize(String dni) {
+		return Employee.normalizeDni(dni);
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
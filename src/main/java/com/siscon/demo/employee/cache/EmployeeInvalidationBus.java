@@ -0,0 +1,249 @@
+package com.siscon.demo.employee.cache;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.siscon.demo.employee.utility.Constants;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Invalidación de {@link EmployeeCache} entre las instancias del servicio usando LISTEN/NOTIFY de PostgreSQL.
+ *
+ * <p><strong>Publicación:</strong> los ids modificados en una transacción se acumulan y se envían con
+ * {@code pg_notify} justo antes del commit, en una sola sentencia y agrupados en mensajes de hasta
+ * {@value #MAX_PAYLOAD_BYTES} bytes. Como NOTIFY es transaccional, las demás instancias solo reciben el
+ * mensaje si la transacción se confirma.</p>
+ *
+ * <p><strong>Recepción:</strong> cada instancia mantiene una conexión dedicada (fuera del pool) con LISTEN
+ * sobre el canal y elimina de su caché los ids recibidos, ignorando los mensajes que ella misma publicó.
+ * Si la conexión se pierde, se reconecta con espera exponencial y vacía la caché local, ya que pudo
+ * perder mensajes mientras estuvo desconectada.</p>
+ *
+ * <p>Con {@code employee.cache.invalidation.enabled=false} no se publica ni se escucha nada.</p>
+ */
+@Log4j2
+@Component
+public class EmployeeInvalidationBus implements SmartLifecycle {
+
+	/** El límite de PostgreSQL para el payload de NOTIFY es 8000 bytes. */
+	static final int MAX_PAYLOAD_BYTES = 7900;
+	private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+	private final EmployeeCache employeeCache;
+	private final JdbcTemplate jdbcTemplate;
+	private final DataSourceProperties dataSourceProperties;
+	private final boolean enabled;
+	private final String channel;
+	private final long pollMillis;
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private volatile boolean running;
+	private volatile Connection connection;
+	private Thread listener;
+
+	public EmployeeInvalidationBus(EmployeeCache employeeCache, JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties,
+			@Value("${employee.cache.invalidation.enabled:true}") boolean enabled,
+			@Value("${employee.cache.invalidation.channel:" + Constants.DB_PREFIX + "_employee_changed}") String channel,
+			@Value("${employee.cache.invalidation.poll-millis:500}") long pollMillis) {
+		this.employeeCache = employeeCache;
+		this.jdbcTemplate = jdbcTemplate;
+		this.dataSourceProperties = dataSourceProperties;
+		this.enabled = enabled;
+		this.channel = channel;
+		this.pollMillis = pollMillis;
+	}
+
+	/**
+	 * Registra los ids modificados para notificarlos a las demás instancias cuando la transacción en curso
+	 * se confirme. Fuera de una transacción la notificación se envía de inmediato.
+	 * @param ids Ids de los empleados modificados
+	 */
+	public void publish(Collection<UUID> ids) {
+		if (!enabled || ids.isEmpty()) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			sendNotifications(ids);
+			return;
+		}
+		PendingIds pending = (PendingIds) TransactionSynchronizationManager.getResource(this);
+		if (pending == null) {
+			pending = new PendingIds();
+			TransactionSynchronizationManager.bindResource(this, pending);
+			TransactionSynchronizationManager.registerSynchronization(pending);
+		}
+		pending.ids.addAll(ids);
+	}
+
+	/**
+	 * Agrupa los ids en mensajes {@code nodeId:id1,id2,...} que no excedan el límite de NOTIFY.
+	 */
+	List<String> payloads(Collection<UUID> ids) {
+		List<String> payloads = new ArrayList<>();
+		StringBuilder payload = new StringBuilder(nodeId).append(':');
+		int header = payload.length();
+		for (UUID id : ids) {
+			String value = id.toString();
+			if (payload.length() > header && payload.length() + value.length() + 1 > MAX_PAYLOAD_BYTES) {
+				payloads.add(payload.toString());
+				payload.setLength(header);
+			}
+			if (payload.length() > header) {
+				payload.append(',');
+			}
+			payload.append(value);
+		}
+		payloads.add(payload.toString());
+		return payloads;
+	}
+
+	/**
+	 * Procesa un mensaje recibido: elimina de la caché local los ids publicados por otra instancia.
+	 */
+	void onNotification(String payload) {
+		int separator = payload.indexOf(':');
+		if (separator < 0 || payload.substring(0, separator).equals(nodeId)) {
+			return;
+		}
+		List<UUID> ids = new ArrayList<>();
+		for (String id : payload.substring(separator + 1).split(",")) {
+			try {
+				ids.add(UUID.fromString(id));
+			} catch (IllegalArgumentException e) {
+				log.warn("Ignoring invalid employee id in cache invalidation: " + id);
+			}
+		}
+		employeeCache.evictAll(ids);
+	}
+
+	private void sendNotifications(Collection<UUID> ids) {
+		List<String> payloads = payloads(ids);
+		jdbcTemplate.query(con -> {
+			PreparedStatement ps = con.prepareStatement("SELECT pg_notify(?, payload) FROM unnest(?) AS payload");
+			ps.setString(1, channel);
+			ps.setArray(2, con.createArrayOf("text", payloads.toArray()));
+			return ps;
+		}, rs -> {});
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		listener = new Thread(this::listen, "employee-cache-invalidation");
+		listener.setDaemon(true);
+		listener.start();
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		closeConnection();
+		if (listener != null) {
+			listener.interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public boolean isAutoStartup() {
+		return enabled;
+	}
+
+	private void listen() {
+		long backoff = 1_000;
+		boolean reconnect = false;
+		while (running) {
+			try {
+				Connection current = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+						dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+				connection = current;
+				try (Statement statement = current.createStatement()) {
+					statement.execute("LISTEN \"" + channel.replace("\"", "\"\"") + "\"");
+				}
+				if (reconnect) {
+					log.info("Cache invalidation listener reconnected, clearing local employee cache");
+					employeeCache.clear();
+				}
+				backoff = 1_000;
+				PGConnection pgConnection = current.unwrap(PGConnection.class);
+				while (running) {
+					PGNotification[] notifications = pgConnection.getNotifications((int) pollMillis);
+					if (notifications != null) {
+						Arrays.stream(notifications).forEach(notification -> onNotification(notification.getParameter()));
+					}
+				}
+			} catch (SQLException e) {
+				if (!running) {
+					break;
+				}
+				log.warn("Cache invalidation listener disconnected, retrying in " + backoff + " ms: " + ExceptionUtils.getRootCauseMessage(e));
+				reconnect = true;
+				closeConnection();
+				try {
+					Thread.sleep(backoff);
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+				backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+			}
+		}
+		closeConnection();
+	}
+
+	private void closeConnection() {
+		Connection current = connection;
+		connection = null;
+		if (current != null) {
+			try {
+				current.close();
+			} catch (SQLException e) {
+				log.debug("Error closing cache invalidation connection", e);
+			}
+		}
+	}
+
+	/**
+	 * Ids acumulados en la transacción en curso, notificados antes del commit.
+	 */
+	private final class PendingIds implements TransactionSynchronization {
+
+		private final Set<UUID> ids = new LinkedHashSet<>();
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			sendNotifications(ids);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(EmployeeInvalidationBus.this);
+		}
+	}
+}
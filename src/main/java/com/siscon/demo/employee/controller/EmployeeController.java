@@ -1,41 +1,70 @@
 package com.siscon.demo.employee.controller;
 
+import java.io.IOException;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.siscon.demo.employee.dto.BulkLoadResultDTO;
+import com.siscon.demo.employee.dto.BulkRequestDTO;
+import com.siscon.demo.employee.dto.BulkResultDTO;
+import com.siscon.demo.employee.dto.ChangeFeedDTO;
+import com.siscon.demo.employee.dto.CursorPageDTO;
+import com.siscon.demo.employee.dto.EmployeeChangeDTO;
 import com.siscon.demo.employee.dto.EmployeeCreateDTO;
+import com.siscon.demo.employee.dto.EmployeePatchDTO;
 import com.siscon.demo.employee.dto.EmployeeResultDTO;
 import com.siscon.demo.employee.dto.EmployeeUpdateDTO;
+import com.siscon.demo.employee.dto.ImportJobDTO;
+import com.siscon.demo.employee.dto.LookupRequestDTO;
+import com.siscon.demo.employee.dto.UpsertResultDTO;
 import com.siscon.demo.employee.entity.Employee;
 import com.siscon.demo.employee.exception.DuplicateResourceException;
 import com.siscon.demo.employee.exception.GlobalExceptionHandler.ErrorResponse;
 import com.siscon.demo.employee.exception.ServiceException;
+import com.siscon.demo.employee.service.EmployeeChangeFeedService;
+import com.siscon.demo.employee.service.EmployeeImportJobService;
 import com.siscon.demo.employee.service.EmployeeService;
+import com.siscon.demo.employee.service.EmployeeStreamService;
+import com.siscon.demo.employee.service.ImportJob;
+import com.siscon.demo.employee.utility.KeysetCursor;
+import com.siscon.demo.employee.utility.StatementBudget;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -44,13 +73,22 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/v1/employees")
 public class EmployeeController {
 
+	public static final String NDJSON_VALUE = "application/x-ndjson";
+	public static final String CSV_VALUE = "text/csv";
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final int MAX_JOB_RESULTS_PAGE_SIZE = 1000;
+
 	private final EmployeeService employeeService;
+	private final EmployeeStreamService employeeStreamService;
+	private final EmployeeImportJobService employeeImportJobService;
+	private final EmployeeChangeFeedService employeeChangeFeedService;
 
 	@Operation(summary = "Creates an employee", description = "Returns a created employee")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "201", description = "Created employee", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Employee.class))),
 			@ApiResponse(responseCode = "409", description = "Conflict"),
 			@ApiResponse(responseCode = "500", description = "Internal Server Error") })
+	@StatementBudget(2)
 	@PostMapping
 	public ResponseEntity<Employee> create(@Valid @RequestBody EmployeeCreateDTO entityDTO) {
 		Employee employee;
@@ -73,29 +111,152 @@ public class EmployeeController {
 	                )),
 	    @ApiResponse(responseCode = "400", description = "Bad Request")
 	})
+	@StatementBudget(2)
 	@GetMapping("/all")
-	public ResponseEntity<Page<Employee>> findAll(
+	public ResponseEntity<Page<?>> findAll(
 			@PageableDefault(page = 0, size = 10) @SortDefault.SortDefaults({
-					@SortDefault(sort = "name", direction = Direction.ASC) }) Pageable pageable) {
+					@SortDefault(sort = "name", direction = Direction.ASC) }) Pageable pageable,
+			@Parameter(description = "Comma separated list of fields to return, e.g. id,name,dni (all fields when omitted)")
+			@RequestParam(name = "fields", required = false) List<String> fields) {
+		if (fields != null && !fields.isEmpty()) {
+			return ResponseEntity.ok(employeeService.findAll(fields, pageable));
+		}
 		Page<Employee> students = employeeService.findAll(pageable);
 		return ResponseEntity.ok(students);
 	}
 	
+	@Operation(summary = "Returns employees with cursor (keyset) pagination", description = "Constant time pages without total count, use the returned next cursor to continue")
+	@ApiResponses(value = {
+	    @ApiResponse(responseCode = "200", description = "Page of employees",
+	                content = @Content(
+	                    mediaType = "application/json",
+	                    schema = @Schema(implementation = CursorPageDTO.class)
+	                )),
+	    @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	@StatementBudget(1)
+	@GetMapping("/scroll")
+	public ResponseEntity<CursorPageDTO<Employee>> scroll(
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "10") int size,
+			@RequestParam(name = "sort", defaultValue = "name") String sort,
+			@RequestParam(name = "direction", defaultValue = "ASC") Direction direction) {
+		KeysetCursor keysetCursor = cursor == null ? KeysetCursor.first(sort, direction) : KeysetCursor.decode(cursor);
+		Window<Employee> window = employeeService.findAll(keysetCursor.getPosition(), keysetCursor.getSort(), Math.min(size, MAX_PAGE_SIZE));
+		String next = window.hasNext() && !window.isEmpty() 
+				? keysetCursor.encode((KeysetScrollPosition) window.positionAt(window.size() - 1)) 
+				: null;
+		return ResponseEntity.ok(new CursorPageDTO<>(window.getContent(), window.size(), next));
+	}
+	
+	@Operation(summary = "Returns the employee changes since a cursor", description = "Incremental sync: returns the latest state of each employee created, updated or restored (UPSERT) and deleted (DELETE) after the given cursor, in commit order. Without cursor starts from the first change. Keep the returned next cursor for the following request and repeat right away while more is true")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Changes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ChangeFeedDTO.class))),
+			@ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@StatementBudget(1)
+	@GetMapping("/changes")
+	public ResponseEntity<ChangeFeedDTO> changes(
+			@RequestParam(name = "since", required = false) String since,
+			@RequestParam(name = "size", defaultValue = "500") int size) {
+		return ResponseEntity.ok(employeeChangeFeedService.findChanges(since, size));
+	}
+	
+	@Operation(summary = "Streams the employee changes", description = "Server-Sent Events variant of /changes: sends the changes after the cursor and then each new change as it is committed. The id of each event is its cursor, reconnections with Last-Event-ID continue from there")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "change events", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = EmployeeChangeDTO.class))),
+			@ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+			@ApiResponse(responseCode = "503", description = "Too many subscribers", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamChanges(
+			@RequestParam(name = "since", required = false) String since,
+			@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+		return employeeChangeFeedService.subscribe(lastEventId != null ? lastEventId : since);
+	}
+	
+	@Operation(summary = "Exports all employees", description = "Streams every employee in a single response as NDJSON or CSV")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "All employees, one per line", content = {
+					@Content(mediaType = NDJSON_VALUE, schema = @Schema(implementation = Employee.class)),
+					@Content(mediaType = CSV_VALUE) }),
+			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@GetMapping(value = "/export", produces = { NDJSON_VALUE, CSV_VALUE })
+	public void export(@RequestParam(name = "format", defaultValue = "ndjson") String format, HttpServletResponse response) throws IOException {
+		boolean csv = "csv".equalsIgnoreCase(format);
+		response.setContentType(csv ? CSV_VALUE : NDJSON_VALUE);
+		employeeStreamService.exportRecords(csv, response.getOutputStream());
+	}
+	
+	@Operation(summary = "Returns an employee", description = "Returns an active employee by id")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Employee", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Employee.class))),
+			@ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@StatementBudget(1)
+	@GetMapping("/{id}")
+	public ResponseEntity<Employee> findById(@PathVariable(name = "id", required = true) String id) {
+		return ResponseEntity.ok(employeeService.findById(java.util.UUID.fromString(id)));
+	}
+	
+	@Operation(summary = "Returns an employee by DNI", description = "Returns an active employee by DNI (case insensitive)")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Employee", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Employee.class))),
+			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@StatementBudget(1)
+	@GetMapping("/dni/{dni}")
+	public ResponseEntity<Employee> findByDni(@PathVariable(name = "dni", required = true) String dni) {
+		return ResponseEntity.ok(employeeService.findByDni(dni));
+	}
+	
+	@Operation(summary = "Returns several employees by id or DNI", description = "Resolves a list of ids or DNIs in a single request. The result is keyed by the given ids/DNIs, with null for the ones without an active employee")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Employee (or null) for each key", content = @Content(mediaType = "application/json")),
+			@ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@PostMapping("/lookup")
+	public ResponseEntity<Map<?, Employee>> lookup(@RequestBody LookupRequestDTO request) {
+		boolean byIds = request.getIds() != null;
+		if (byIds == (request.getDnis() != null)) {
+			throw new IllegalArgumentException("Either a list of ids or a list of DNIs must be provided");
+		}
+		return ResponseEntity.ok(byIds ? employeeService.findAllById(request.getIds()) : employeeService.findAllByDni(request.getDnis()));
+	}
+	
 	@Operation(summary = "Deletes an employee", description = "Change active/inactive an employee (Soft delete)")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "200", description = "Employee was delete"),
 			@ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@StatementBudget(3)
 	@DeleteMapping("/{id}")
 	public void delete(@PathVariable(name = "id", required = true) String id) {
 		employeeService.delete(java.util.UUID.fromString(id));
 	}
 	
+	@Operation(summary = "Deletes employees in bulk", description = "Soft deletes a list of employees or every employee with a position in a single statement, returns the outcome of each employee")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Outcome of each employee", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = BulkResultDTO.class)))),
+			@ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@PostMapping("/bulk-delete")
+	public ResponseEntity<List<BulkResultDTO>> deleteAll(@RequestBody BulkRequestDTO request) {
+		return ResponseEntity.ok(employeeService.deleteAll(request.getIds(), request.getPosition()));
+	}
+	
+	@Operation(summary = "Restores employees in bulk", description = "Reactivates a list of employees or every employee with a position in a single statement, returns the outcome of each employee")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Outcome of each employee", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = BulkResultDTO.class)))),
+			@ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@PostMapping("/bulk-restore")
+	public ResponseEntity<List<BulkResultDTO>> restoreAll(@RequestBody BulkRequestDTO request) {
+		return ResponseEntity.ok(employeeService.restoreAll(request.getIds(), request.getPosition()));
+	}
+	
 	@Operation(summary = "Update an employee", description = "Returns an employee updated")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "200", description = "Updated employee", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Employee.class))),
 			@ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@StatementBudget(3)
 	@PutMapping
 	public ResponseEntity<Employee> update(@Valid @RequestBody EmployeeUpdateDTO entityDTO) {
 		Employee employee;
@@ -107,16 +268,102 @@ public class EmployeeController {
 		return ResponseEntity.ok(employee);
 	}
 	
+	@Operation(summary = "Partially updates an employee", description = "Updates only the given fields of an active employee in a single statement. Returns the updated employee when returning=true, otherwise no content")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Updated employee", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Employee.class))),
+			@ApiResponse(responseCode = "204", description = "Employee was updated"),
+			@ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+			@ApiResponse(responseCode = "409", description = "Conflict", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@StatementBudget(2)
+	@PatchMapping("/{id}")
+	public ResponseEntity<Employee> patch(@PathVariable(name = "id", required = true) String id,
+			@Parameter(description = "Return the updated employee")
+			@RequestParam(name = "returning", defaultValue = "false") boolean returning,
+			@Valid @RequestBody EmployeePatchDTO entityDTO) {
+		return employeeService.patch(java.util.UUID.fromString(id), entityDTO.toChanges(), returning)
+				.map(ResponseEntity::ok)
+				.orElseGet(() -> ResponseEntity.noContent().build());
+	}
+	
 	@Operation(summary = "Creates one or more employee(s)", description = "Returns one o more created employee(s)")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "200", description = "Created employee(s)", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EmployeeResultDTO.class)))),
 			@ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
 	@PostMapping("/save-all")
-	public ResponseEntity<List<EmployeeResultDTO>> save(@Valid @RequestBody List<EmployeeCreateDTO> entitiesDTO) {
+	public ResponseEntity<List<EmployeeResultDTO>> save(@Valid @RequestBody List<EmployeeCreateDTO> entitiesDTO,
+			@Parameter(description = "Process the chunks concurrently, each one with its own transaction")
+			@RequestParam(name = "parallel", defaultValue = "false") boolean parallel) {
 		List<Employee> employees = new ArrayList<>();
 		entitiesDTO.stream().forEach(entityDTO -> employees.add(entityDTO.toEmployee()));
-		return ResponseEntity.ok(employeeService.save(employees));
+		return ResponseEntity.ok(parallel ? employeeService.saveParallel(employees) : employeeService.save(employees));
+	}
+	
+	@Operation(summary = "Bulk loads employees", description = "Streams a large snapshot of employees (NDJSON, a JSON array or CSV with header) into PostgreSQL with COPY, committing every employee.bulk-load.chunk-size rows. Returns the totals and the first rejected rows")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Load summary", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkLoadResultDTO.class))),
+			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@PostMapping(value = "/bulk-load", consumes = { NDJSON_VALUE, CSV_VALUE, MediaType.APPLICATION_JSON_VALUE })
+	public ResponseEntity<BulkLoadResultDTO> bulkLoad(HttpServletRequest request) throws IOException {
+		return ResponseEntity.ok(employeeStreamService.bulkLoadRecords(request.getInputStream(), isCsv(request)));
+	}
+	
+	@Operation(summary = "Inserts or updates employees by DNI", description = "Synchronizes a list of employees: new DNIs are inserted, existing ones are updated only when a field changed and unchanged ones are not written. Returns the totals and the result (INSERTED, UPDATED, UNCHANGED or the error) of each employee")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Synchronized employee(s)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UpsertResultDTO.class))),
+			@ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@PostMapping("/upsert")
+	public ResponseEntity<UpsertResultDTO> upsert(@Valid @RequestBody List<EmployeeCreateDTO> entitiesDTO) {
+		List<Employee> employees = new ArrayList<>(entitiesDTO.size());
+		for (int i = 0; i < entitiesDTO.size(); i++) {
+			EmployeeCreateDTO entityDTO = entitiesDTO.get(i);
+			// Sin el estado activo la sincronización no sabe si desactivar al empleado: se rechaza en lugar de suponerlo
+			if (entityDTO.getActive() == null) {
+				throw new IllegalArgumentException("Employee at position " + i + " (DNI '" + entityDTO.getDni() + "') has no active value");
+			}
+			employees.add(entityDTO.toEmployee());
+		}
+		return ResponseEntity.ok(employeeService.upsert(employees));
+	}
+	
+	@Operation(summary = "Imports employees from a stream", description = "Reads NDJSON, a JSON array or CSV (with header) incrementally and streams the result of each employee as NDJSON")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Result of each employee, one JSON object per line", content = @Content(mediaType = NDJSON_VALUE, schema = @Schema(implementation = EmployeeResultDTO.class))),
+			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@PostMapping(value = "/import", consumes = { NDJSON_VALUE, CSV_VALUE, MediaType.APPLICATION_JSON_VALUE }, produces = NDJSON_VALUE)
+	public void importStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		response.setContentType(NDJSON_VALUE);
+		employeeStreamService.importRecords(request.getInputStream(), isCsv(request), response.getOutputStream());
+	}
+	
+	@Operation(summary = "Submits an asynchronous import", description = "Stores the content (NDJSON, a JSON array or CSV with header) and imports it in the background. Poll the returned job for progress and the rows that failed")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "202", description = "Import job accepted", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportJobDTO.class))),
+			@ApiResponse(responseCode = "503", description = "Too many imports in progress", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@PostMapping(value = "/jobs", consumes = { NDJSON_VALUE, CSV_VALUE, MediaType.APPLICATION_JSON_VALUE })
+	public ResponseEntity<ImportJobDTO> submitImport(HttpServletRequest request) throws IOException {
+		ImportJob job = employeeImportJobService.submit(request.getInputStream(), isCsv(request));
+		return ResponseEntity.accepted()
+				.location(URI.create(request.getRequestURI() + "/" + job.getId()))
+				.body(job.toDTO(0, 0));
+	}
+	
+	@Operation(summary = "Returns an import job", description = "Returns the progress of an asynchronous import and a page of the rows that failed")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Import job", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportJobDTO.class))),
+			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+	@GetMapping("/jobs/{id}")
+	public ResponseEntity<ImportJobDTO> findImport(@PathVariable(name = "id", required = true) String id,
+			@RequestParam(name = "page", defaultValue = "0") int page,
+			@RequestParam(name = "size", defaultValue = "100") int size) {
+		ImportJob job = employeeImportJobService.find(java.util.UUID.fromString(id));
+		return ResponseEntity.ok(job.toDTO(Math.max(page, 0), Math.min(Math.max(size, 0), MAX_JOB_RESULTS_PAGE_SIZE)));
 	}
 
+	private static boolean isCsv(HttpServletRequest request) {
+		return MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType(CSV_VALUE));
+	}
 }
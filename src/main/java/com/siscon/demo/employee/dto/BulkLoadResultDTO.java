@@ -0,0 +1,25 @@
+package com.siscon.demo.employee.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Resultado de una carga masiva de empleados")
+public class BulkLoadResultDTO {
+
+    @Schema(description = "Empleados insertados", example = "999990")
+    private long loaded;
+
+    @Schema(description = "Registros rechazados (inválidos o con un DNI existente o repetido)", example = "10")
+    private long rejected;
+
+    @Schema(description = "Los primeros registros rechazados, hasta employee.bulk-load.max-rejected-rows")
+    private List<RejectedRowDTO> rejectedRows;
+
+    @Schema(description = "Error que detuvo la carga, null si se procesó todo el contenido. Los bloques anteriores al error quedan guardados")
+    private String error;
+}
@@ -0,0 +1,25 @@
+package com.siscon.demo.employee.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "Empleados a los que se aplica una operación masiva: una lista de ids o un filtro, no ambos")
+public class BulkRequestDTO {
+
+    @ArraySchema(schema = @Schema(
+        description = "Ids de los empleados",
+        example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+    ))
+    private List<UUID> ids;
+
+    @Schema(
+        description = "Filtro: todos los empleados con este puesto",
+        example = "Java Programmer"
+    )
+    private String position;
+}
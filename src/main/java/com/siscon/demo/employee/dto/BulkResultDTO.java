@@ -0,0 +1,26 @@
+package com.siscon.demo.employee.dto;
+
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Resultado de una operación masiva para un empleado")
+public class BulkResultDTO {
+
+    public enum Status {
+    	DELETED, ALREADY_DELETED, RESTORED, ALREADY_ACTIVE, NOT_FOUND
+    }
+
+    @Schema(
+        description = "Id del empleado",
+        example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+    )
+    private UUID id;
+
+    @Schema(description = "Resultado de la operación", example = "DELETED")
+    private Status status;
+}
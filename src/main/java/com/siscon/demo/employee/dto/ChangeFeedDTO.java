@@ -0,0 +1,25 @@
+package com.siscon.demo.employee.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Página del feed de cambios de empleados")
+public class ChangeFeedDTO {
+
+    @Schema(description = "Cambios en el orden en que se confirmaron, solo el último de cada empleado")
+    private List<EmployeeChangeDTO> changes;
+
+    @Schema(
+        description = "Cursor para la siguiente petición; si no hay cambios es el mismo cursor recibido",
+        example = "NzUyLjE0"
+    )
+    private String next;
+
+    @Schema(description = "true si hay más cambios disponibles, solicitar de nuevo de inmediato con next", example = "false")
+    private boolean more;
+}
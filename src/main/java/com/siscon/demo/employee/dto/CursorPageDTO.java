@@ -0,0 +1,25 @@
+package com.siscon.demo.employee.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Página de resultados paginada por cursor")
+public class CursorPageDTO<T> {
+
+    @Schema(description = "Elementos de la página")
+    private List<T> content;
+
+    @Schema(description = "Cantidad de elementos de la página", example = "10")
+    private int size;
+
+    @Schema(
+        description = "Cursor opaco para solicitar la siguiente página, null si no hay más resultados",
+        example = "eyJzIjoibmFtZSIsImQiOiJBU0MiLCJrIjoiRGFuaWVsIiwiaWQiOiIzZmE4NWY2NC01NzE3LTQ1NjItYjNmYy0yYzk2M2Y2NmFmYTYifQ"
+    )
+    private String next;
+}
@@ -0,0 +1,38 @@
+package com.siscon.demo.employee.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.siscon.demo.employee.entity.Employee;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Cambio de un empleado en el feed de cambios")
+public class EmployeeChangeDTO {
+
+    public enum Type {
+    	UPSERT, DELETE
+    }
+
+    @Schema(description = "UPSERT si el empleado está activo (creado, modificado o restaurado), DELETE si fue eliminado (borrado lógico)", example = "UPSERT")
+    private Type type;
+
+    @Schema(
+        description = "Id del empleado",
+        example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+    )
+    private UUID id;
+
+    @Schema(description = "Fecha del cambio", example = "2025-01-01T10:00:00")
+    private LocalDateTime changedAt;
+
+    @Schema(description = "Estado actual del empleado, null en los DELETE")
+    private Employee employee;
+
+    @Schema(description = "Cursor para continuar el feed después de este cambio", example = "NzUyLjE0")
+    private String cursor;
+}
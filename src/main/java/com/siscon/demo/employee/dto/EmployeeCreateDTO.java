@@ -5,7 +5,6 @@ import com.siscon.demo.employee.entity.Employee;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Past;
 import jakarta.validation.constraints.Pattern;
 import lombok.Data;
@@ -79,15 +78,17 @@ public class EmployeeCreateDTO {
     protected String dni;
     
     @Schema(
-        description = "Usuario activo / inactivo", 
-        example = "true", 
-        required = true
+        description = "Usuario activo / inactivo. Al crear, si se omite el empleado queda activo; en la sincronización por DNI es obligatorio", 
+        example = "true"
     )
-    @NotNull(message = "El valor activo es obligatorio")
-    protected boolean active;
+    protected Boolean active;
     
+    /**
+     * Convierte a Employee para crearlo; sin {@code active} el empleado queda activo.
+     */
     public Employee toEmployee() {
-    	return new Employee(this.name, this.middlename, this.firstname, this.lastname, this.genre, this.birthdate, this.dni, this.position, this.active);
+    	return new Employee(this.name, this.middlename, this.firstname, this.lastname, this.genre, this.birthdate, this.dni, this.position, 
+    			this.active == null || this.active);
     }
     
 	@Override
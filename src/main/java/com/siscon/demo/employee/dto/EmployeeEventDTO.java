@@ -0,0 +1,39 @@
+package com.siscon.demo.employee.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Evento de un empleado publicado desde el outbox")
+public class EmployeeEventDTO {
+
+    public enum Type {
+    	CREATED, UPDATED, DELETED, RESTORED
+    }
+
+    @Schema(description = "Posición del evento en el outbox, creciente por empleado; los consumidores la usan para descartar duplicados", example = "1024")
+    private long sequence;
+
+    @Schema(description = "Tipo de evento", example = "UPDATED")
+    private Type type;
+
+    @Schema(
+        description = "Id del empleado",
+        example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+    )
+    private UUID employeeId;
+
+    @Schema(description = "Fecha de la transacción que generó el evento", example = "2025-01-01T10:00:00")
+    private LocalDateTime occurredAt;
+
+    @JsonRawValue
+    @Schema(description = "Estado del empleado después del cambio, en JSON")
+    private String employee;
+}
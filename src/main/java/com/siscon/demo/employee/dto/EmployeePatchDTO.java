@@ -0,0 +1,84 @@
+package com.siscon.demo.employee.dto;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+@Schema(description = "Datos para actualizar parcialmente un empleado, solo se modifican los campos enviados")
+public class EmployeePatchDTO {
+
+	private static final String NOT_BLANK = "(?s).*\\S.*";
+
+    @Schema(description = "Primer nombre del empleado", example = "Daniel")
+    @Pattern(regexp = NOT_BLANK, message = "El nombre no puede estar vacío")
+    @Size(max = 255)
+    private String name;
+
+    @Schema(description = "Segundo Nombre del empleado", example = "Joav")
+    @Size(max = 255)
+    private String middlename;
+
+    @Schema(description = "Apellido1 del empleado", example = "Tiro")
+    @Pattern(regexp = NOT_BLANK, message = "El apellido 1 no puede estar vacío")
+    @Size(max = 255)
+    private String firstname;
+
+    @Schema(description = "Apellido 2 del empleado", example = "Bravo")
+    @Size(max = 255)
+    private String lastname;
+
+    @Schema(
+        description = "Fecha de nacimiento (formato YYYY-MM-DD)",
+        example = "2020-01-01",
+        type = "string",
+        format = "date"
+    )
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @Past(message = "La fecha de nacimiento debe ser en el pasado")
+    private LocalDate birthdate;
+
+    @Schema(description = "Género del empleado (M/F)", example = "M", allowableValues = {"M", "F"})
+    @Pattern(regexp = "[MF]", message = "El género debe ser M, F")
+    private String genre;
+
+    @Schema(description = "Puesto o cargo del empleado", example = "Java Programmer")
+    @Pattern(regexp = NOT_BLANK, message = "El puesto no puede estar vacío")
+    @Size(max = 255)
+    private String position;
+
+    @Schema(description = "Documento Nacional de Identidad (DNI/RFC)", example = "TIBD841213Q50")
+    @Pattern(regexp = NOT_BLANK, message = "El DNI no puede estar vacío")
+    @Size(max = 25)
+    private String dni;
+
+    /**
+     * Campos enviados (no nulos) con su valor nuevo, en el orden de la tabla.
+     */
+    public Map<String, Object> toChanges() {
+    	Map<String, Object> changes = new LinkedHashMap<>();
+    	putIfPresent(changes, "firstname", firstname);
+    	putIfPresent(changes, "lastname", lastname);
+    	putIfPresent(changes, "middlename", middlename);
+    	putIfPresent(changes, "name", name);
+    	putIfPresent(changes, "genre", genre);
+    	putIfPresent(changes, "birthdate", birthdate);
+    	putIfPresent(changes, "dni", dni);
+    	putIfPresent(changes, "position", position);
+    	return changes;
+    }
+
+    private static void putIfPresent(Map<String, Object> changes, String field, Object value) {
+    	if (value != null) {
+    		changes.put(field, value);
+    	}
+    }
+}
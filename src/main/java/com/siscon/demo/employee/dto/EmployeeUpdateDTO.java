@@ -25,8 +25,12 @@ public class EmployeeUpdateDTO extends EmployeeCreateDTO {
     @NotNull(message = "El id es obligatorio")
     protected UUID id;
     
+    /**
+     * Convierte a Employee para actualizarlo. {@code active} no se aplica en la actualización (ver DELETE y restore).
+     */
     public Employee toEmployee() {
-    	return new Employee(this.id, this.name, this.middlename, this.firstname, this.lastname, this.genre, this.birthdate, this.dni, this.position, this.active);
+    	return new Employee(this.id, this.name, this.middlename, this.firstname, this.lastname, this.genre, this.birthdate, this.dni, this.position, 
+    			this.active == null || this.active);
     }
     
 	@Override
@@ -0,0 +1,52 @@
+package com.siscon.demo.employee.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "Estado de una importación asíncrona con una página de sus registros con error")
+public class ImportJobDTO {
+
+    @Schema(description = "Id de la importación", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+    private UUID id;
+
+    @Schema(description = "Estado", example = "RUNNING", allowableValues = {"QUEUED", "RUNNING", "COMPLETED", "FAILED"})
+    private String status;
+
+    @Schema(description = "Fecha de recepción")
+    private LocalDateTime submittedAt;
+
+    @Schema(description = "Fecha de inicio del procesamiento")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "Fecha de término")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "Registros procesados", example = "15000")
+    private long processed;
+
+    @Schema(description = "Registros guardados", example = "14990")
+    private long succeeded;
+
+    @Schema(description = "Registros con error", example = "10")
+    private long failed;
+
+    @Schema(description = "Registros procesados por segundo", example = "2500.5")
+    private double rowsPerSecond;
+
+    @Schema(description = "Error que detuvo la importación, si lo hubo")
+    private String error;
+
+    @Schema(description = "Página de registros con error, desde 0", example = "0")
+    private int page;
+
+    @Schema(description = "Registros con error por página", example = "100")
+    private int size;
+
+    @Schema(description = "Registros con error de la página, en el orden de entrada; se conservan los primeros employee.jobs.max-failed-rows")
+    private List<RejectedRowDTO> failedRows;
+}
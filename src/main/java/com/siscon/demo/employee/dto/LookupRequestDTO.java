@@ -0,0 +1,25 @@
+package com.siscon.demo.employee.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "Claves de los empleados a buscar: una lista de ids o una lista de DNI, no ambas")
+public class LookupRequestDTO {
+
+    @ArraySchema(schema = @Schema(
+        description = "Ids de los empleados",
+        example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+    ))
+    private List<UUID> ids;
+
+    @ArraySchema(schema = @Schema(
+        description = "DNI de los empleados (sin distinguir mayúsculas)",
+        example = "TIBD841213Q50"
+    ))
+    private List<String> dnis;
+}
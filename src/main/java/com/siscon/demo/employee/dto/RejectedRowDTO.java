@@ -0,0 +1,23 @@
+package com.siscon.demo.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Registro rechazado de una carga masiva")
+public class RejectedRowDTO {
+
+    @Schema(description = "Número del registro en el contenido recibido, empezando en 1 (sin contar el encabezado CSV)", example = "42")
+    private long row;
+
+    @Schema(
+        description = "Documento Nacional de Identidad (DNI/RFC)", 
+        example = "TIBD841213Q50"
+    )
+    private String dni;
+
+    @Schema(description = "Motivo del rechazo", example = "DuplicateResourceException: An employee with DNI 'TIBD841213Q50' already exists")
+    private String message;
+}
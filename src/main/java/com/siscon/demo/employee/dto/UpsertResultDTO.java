@@ -0,0 +1,28 @@
+package com.siscon.demo.employee.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Resultado de una sincronización (upsert) de empleados por DNI")
+public class UpsertResultDTO {
+
+    @Schema(description = "Empleados nuevos", example = "10")
+    private long inserted;
+
+    @Schema(description = "Empleados existentes con algún cambio", example = "5")
+    private long updated;
+
+    @Schema(description = "Empleados existentes sin cambios, no se escribieron", example = "985")
+    private long unchanged;
+
+    @Schema(description = "Empleados con error", example = "0")
+    private long failed;
+
+    @Schema(description = "Resultado de cada empleado en el mismo orden de entrada; el mensaje es INSERTED, UPDATED, UNCHANGED o la descripción del error")
+    private List<EmployeeResultDTO> results;
+}
@@ -4,27 +4,39 @@ import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.UUID;
 
 import org.hibernate.annotations.UuidGenerator;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.siscon.demo.employee.utility.Constants;
+import com.siscon.demo.employee.utility.EmployeeIdGenerator;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Past;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
 
 @Data
 @Table(name = Constants.DB_PREFIX + "_employee", uniqueConstraints = {
-		@UniqueConstraint(name = "idxEmployee_Unique", columnNames = { Constants.DB_PREFIX + "_dni"})
+		@UniqueConstraint(name = "idxEmployee_Unique", columnNames = { Constants.DB_PREFIX + "_dni"}),
+		@UniqueConstraint(name = "idxEmployee_DniNormalized", columnNames = { Constants.DB_PREFIX + "_dni_normalized"})
+}, indexes = {
+		@Index(name = "idxEmployee_NameId", columnList = Constants.DB_PREFIX + "_name, " + Constants.DB_PREFIX + "_uuid"),
+		@Index(name = "idxEmployee_CreatedAtId", columnList = Constants.DB_PREFIX + "_created_at, " + Constants.DB_PREFIX + "_uuid")
 })
 @Entity
 public class Employee implements Serializable {
@@ -34,7 +46,7 @@ public class Employee implements Serializable {
 
 	@Id
 	@Column(name = Constants.DB_PREFIX + "_uuid", updatable = false)
-	@UuidGenerator
+	@UuidGenerator(algorithm = EmployeeIdGenerator.class)
 	private UUID id;
 	
 	@NotBlank
@@ -70,6 +82,15 @@ public class Employee implements Serializable {
 	@Column(name = Constants.DB_PREFIX + "_dni", nullable = false, length = 25)
 	private String dni;
 	
+	/**
+	 * DNI sin espacios y en mayúsculas, usado para las búsquedas y la verificación de duplicados
+	 * sin distinguir mayúsculas a través de un índice único.
+	 */
+	@JsonIgnore
+	@Setter(AccessLevel.NONE)
+	@Column(name = Constants.DB_PREFIX + "_dni_normalized", length = 25)
+	private String dniNormalized;
+	
 	@NotBlank
 	@Size(max = 255)
 	@Column(name = Constants.DB_PREFIX + "_position", nullable = false, length = 255)
@@ -118,6 +139,31 @@ public class Employee implements Serializable {
 		this.active = active;
 	}
 	
+	/**
+	 * Crea una copia con los mismos valores, fuera de cualquier contexto de persistencia.
+	 */
+	public Employee copy() {
+		Employee copy = new Employee(id, name, middlename, firstname, lastname, genre, birthdate, dni, position, active);
+		copy.dniNormalized = dniNormalized;
+		copy.createdAt = createdAt;
+		copy.deletedAt = deletedAt;
+		copy.updatedAt = updatedAt;
+		return copy;
+	}
+
+	@PrePersist
+	@PreUpdate
+	void normalizeDni() {
+		this.dniNormalized = normalizeDni(this.dni);
+	}
+	
+	/**
+	 * Normaliza un DNI para compararlo sin distinguir mayúsculas ni espacios al inicio o al final.
+	 */
+	public static String normalizeDni(String dni) {
+		return dni == null ? null : dni.trim().toUpperCase(Locale.ROOT);
+	}
+	
 	public int getAge(){
 		Period period = Period.between(this.birthdate, LocalDate.now());
 		return period.getYears();
@@ -0,0 +1,12 @@
+package com.siscon.demo.employee.exception;
+
+import org.hibernate.service.spi.ServiceException;
+
+public class CapacityExceededException extends ServiceException {
+
+	private static final long serialVersionUID = 2861532974411298735L;
+
+	public CapacityExceededException(String message) {
+        super(message);
+    }
+}
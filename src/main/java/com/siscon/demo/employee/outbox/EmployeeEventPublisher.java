@@ -0,0 +1,22 @@
+package com.siscon.demo.employee.outbox;
+
+import java.util.List;
+
+import com.siscon.demo.employee.dto.EmployeeEventDTO;
+
+/**
+ * Destino de los eventos de empleados extraídos del outbox por {@link EmployeeOutboxRelay}.
+ *
+ * <p>La implementación se elige con {@code employee.outbox.publisher} (ver {@code OutboxConfig}); un broker
+ * de mensajes se integra agregando otra implementación.</p>
+ */
+public interface EmployeeEventPublisher {
+
+	/**
+	 * Publica un lote de eventos, en orden. Solo debe terminar sin error cuando el destino confirmó todos los
+	 * eventos; si falla, el lote completo se vuelve a publicar más tarde, por lo que el destino puede recibir
+	 * eventos repetidos (entrega al menos una vez).
+	 * @param events Eventos ordenados por {@code sequence}
+	 */
+	void publish(List<EmployeeEventDTO> events);
+}
@@ -0,0 +1,157 @@
+package com.siscon.demo.employee.outbox;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.siscon.demo.employee.dto.EmployeeEventDTO;
+import com.siscon.demo.employee.repository.EmployeeOutboxRepository;
+import com.siscon.demo.employee.service.EmployeeMetrics;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Publica los eventos del outbox de empleados con {@link EmployeeEventPublisher}.
+ *
+ * <p>Un hilo extrae lotes de hasta {@code employee.outbox.batch-size} eventos, los publica y los elimina en
+ * la misma transacción. Mientras los lotes salen llenos sigue sin esperar, así que una importación grande se
+ * vacía a la velocidad del publicador; cuando el outbox queda al día consulta cada
+ * {@code employee.outbox.poll-interval}. Si la publicación falla, la transacción se revierte y el lote se
+ * reintenta con espera exponencial: cada evento se entrega al menos una vez y nunca después de un evento
+ * posterior del mismo empleado.</p>
+ *
+ * <p>Un bloqueo consultivo de PostgreSQL permite que solo una instancia publique a la vez; las demás
+ * quedan en espera. Los cambios de un mismo empleado se serializan por el bloqueo de su fila, así que sus
+ * eventos llegan al outbox en el orden de sus transacciones.</p>
+ *
+ * <p>{@code employee.outbox.enabled=false} solo evita que esta instancia inicie el relay; los triggers siguen
+ * registrando eventos para las demás.</p>
+ */
+@Log4j2
+@Component
+public class EmployeeOutboxRelay implements SmartLifecycle {
+
+	private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+	private final EmployeeOutboxRepository outboxRepository;
+	private final EmployeeEventPublisher publisher;
+	private final TransactionTemplate transactionTemplate;
+	private final EmployeeMetrics employeeMetrics;
+	private final boolean enabled;
+	private final int batchSize;
+	private final long pollMillis;
+	private final long shutdownTimeoutMillis;
+
+	private volatile boolean running;
+	private Thread relay;
+
+	public EmployeeOutboxRelay(EmployeeOutboxRepository outboxRepository, EmployeeEventPublisher publisher,
+			DataSource dataSource, EmployeeMetrics employeeMetrics,
+			@Value("${employee.outbox.enabled:true}") boolean enabled,
+			@Value("${employee.outbox.batch-size:1000}") int batchSize,
+			@Value("${employee.outbox.poll-interval:500ms}") Duration pollInterval,
+			@Value("${employee.outbox.shutdown-timeout:10s}") Duration shutdownTimeout) {
+		this.outboxRepository = outboxRepository;
+		this.publisher = publisher;
+		// Solo usa JDBC: una transacción JPA abriría una sesión de Hibernate en cada consulta del outbox
+		this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		this.employeeMetrics = employeeMetrics;
+		this.enabled = enabled;
+		this.batchSize = Math.max(batchSize, 1);
+		this.pollMillis = pollInterval.toMillis();
+		this.shutdownTimeoutMillis = shutdownTimeout.toMillis();
+	}
+
+	/**
+	 * Publica un lote de eventos. Debe ejecutarse dentro de una transacción.
+	 * @return Número de eventos publicados; 0 si el outbox está vacío o lo está publicando otra instancia
+	 */
+	int relayBatch() {
+		if (!outboxRepository.tryLock()) {
+			return 0;
+		}
+		List<EmployeeEventDTO> events = outboxRepository.drain(batchSize);
+		if (!events.isEmpty()) {
+			publisher.publish(events);
+			employeeMetrics.recordOutboxPublished(events.size());
+		}
+		return events.size();
+	}
+
+	private void relay() {
+		long backoff = pollMillis;
+		while (running) {
+			try {
+				Integer relayed = transactionTemplate.execute(status -> relayBatch());
+				backoff = pollMillis;
+				if (relayed == null || relayed < batchSize) {
+					Thread.sleep(pollMillis);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				if (!running) {
+					return;
+				}
+				log.warn("Employee events could not be published, retrying in " + backoff + " ms: " + ExceptionUtils.getRootCauseMessage(e));
+				try {
+					Thread.sleep(backoff);
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				backoff = Math.min(Math.max(backoff * 2, 100), MAX_BACKOFF_MILLIS);
+			}
+		}
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		relay = new Thread(this::relay, "employee-outbox-relay");
+		relay.setDaemon(true);
+		relay.start();
+	}
+
+	/**
+	 * Detiene el hilo y espera hasta {@code employee.outbox.shutdown-timeout} a que termine, para que el lote en
+	 * curso no quede sin conexión al cerrarse el pool. Un lote interrumpido a medias se revierte y se publica de
+	 * nuevo en el próximo inicio.
+	 */
+	@Override
+	public void stop() {
+		running = false;
+		if (relay == null) {
+			return;
+		}
+		relay.interrupt();
+		try {
+			relay.join(shutdownTimeoutMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (relay.isAlive()) {
+			log.warn("Employee outbox relay did not stop within " + shutdownTimeoutMillis + " ms");
+		}
+		relay = null;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public boolean isAutoStartup() {
+		return enabled;
+	}
+}
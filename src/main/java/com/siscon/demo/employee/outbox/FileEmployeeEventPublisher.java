@@ -0,0 +1,66 @@
+package com.siscon.demo.employee.outbox;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siscon.demo.employee.dto.EmployeeEventDTO;
+
+/**
+ * Publica los eventos como líneas JSON (NDJSON) al final de un archivo. Cada lote se sincroniza con el disco
+ * antes de confirmarse, así que un evento eliminado del outbox ya está en el archivo.
+ */
+public class FileEmployeeEventPublisher implements EmployeeEventPublisher, AutoCloseable {
+
+	private final ObjectMapper objectMapper;
+	private final Path path;
+	private FileOutputStream file;
+	private OutputStream output;
+
+	public FileEmployeeEventPublisher(ObjectMapper objectMapper, Path path) {
+		this.objectMapper = objectMapper;
+		this.path = path;
+	}
+
+	@Override
+	public synchronized void publish(List<EmployeeEventDTO> events) {
+		try {
+			if (output == null) {
+				if (path.getParent() != null) {
+					Files.createDirectories(path.getParent());
+				}
+				file = new FileOutputStream(path.toFile(), true);
+				output = new BufferedOutputStream(file, 64 * 1024);
+			}
+			for (EmployeeEventDTO event : events) {
+				output.write(objectMapper.writeValueAsBytes(event));
+				output.write('\n');
+			}
+			output.flush();
+			file.getFD().sync();
+		} catch (IOException e) {
+			close();
+			throw new UncheckedIOException("Employee events could not be written to " + path, e);
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		try {
+			if (output != null) {
+				output.close();
+			}
+		} catch (IOException e) {
+			// El lote que falló se vuelve a publicar al reabrir el archivo
+		} finally {
+			output = null;
+			file = null;
+		}
+	}
+}
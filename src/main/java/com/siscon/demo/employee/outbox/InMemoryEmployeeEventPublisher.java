@@ -0,0 +1,31 @@
+package com.siscon.demo.employee.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.siscon.demo.employee.dto.EmployeeEventDTO;
+
+/**
+ * Guarda los eventos publicados en memoria. Para pruebas y entornos locales: los eventos se pierden al
+ * reiniciar y la lista crece sin límite mientras nadie la vacíe.
+ */
+public class InMemoryEmployeeEventPublisher implements EmployeeEventPublisher {
+
+	private final List<EmployeeEventDTO> events = new ArrayList<>();
+
+	@Override
+	public synchronized void publish(List<EmployeeEventDTO> batch) {
+		events.addAll(batch);
+	}
+
+	/**
+	 * @return Copia de los eventos publicados, en orden
+	 */
+	public synchronized List<EmployeeEventDTO> getEvents() {
+		return new ArrayList<>(events);
+	}
+
+	public synchronized void clear() {
+		events.clear();
+	}
+}
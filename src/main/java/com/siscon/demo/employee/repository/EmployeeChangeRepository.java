@@ -0,0 +1,56 @@
+package com.siscon.demo.employee.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.siscon.demo.employee.dto.EmployeeChangeDTO;
+import com.siscon.demo.employee.entity.Employee;
+import com.siscon.demo.employee.utility.ChangeCursor;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Lectura del feed de cambios de empleados (ver {@link EmployeeSchemaInitializer}).
+ *
+ * <p>Los cambios se recorren en orden de (id de transacción, secuencia) usando el índice sobre esas
+ * columnas, así que el costo de cada petición depende de los cambios devueltos y no del tamaño de la tabla.
+ * Solo se devuelven los cambios de transacciones anteriores a la más antigua todavía en curso
+ * ({@code pg_snapshot_xmin}): una transacción en curso podría confirmar después cambios con una posición
+ * menor que la de un cambio ya entregado, y el cliente nunca los vería. Por lo mismo, una transacción larga
+ * retrasa el feed hasta que termina. Requiere PostgreSQL 13 o superior.</p>
+ */
+@Repository
+@Timed("employee.repository")
+@RequiredArgsConstructor
+public class EmployeeChangeRepository {
+
+	private static final String CHANGES_SQL = "SELECT e.*, e." + EmployeeSchemaInitializer.CHANGE_TXID + "::text AS change_txid_text "
+			+ "FROM " + EmployeeJdbcRepository.TABLE + " e "
+			+ "WHERE (e." + EmployeeSchemaInitializer.CHANGE_TXID + ", e." + EmployeeSchemaInitializer.CHANGE_SEQ + ") > (?::text::xid8, ?) "
+			+ "AND e." + EmployeeSchemaInitializer.CHANGE_TXID + " < pg_snapshot_xmin(pg_current_snapshot()) "
+			+ "ORDER BY e." + EmployeeSchemaInitializer.CHANGE_TXID + ", e." + EmployeeSchemaInitializer.CHANGE_SEQ + " LIMIT ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @param since Posición del último cambio recibido por el cliente
+	 * @param limit Número máximo de cambios
+	 * @return Los cambios posteriores a {@code since}, en orden
+	 */
+	public List<EmployeeChangeDTO> findChanges(ChangeCursor since, int limit) {
+		return jdbcTemplate.query(CHANGES_SQL, (rs, rowNum) -> {
+			Employee employee = EmployeeJdbcRepository.ROW_MAPPER.mapRow(rs, rowNum);
+			String cursor = new ChangeCursor(Long.parseLong(rs.getString("change_txid_text")),
+					rs.getLong(EmployeeSchemaInitializer.CHANGE_SEQ)).encode();
+			if (employee.isActive()) {
+				return new EmployeeChangeDTO(EmployeeChangeDTO.Type.UPSERT, employee.getId(),
+						employee.getUpdatedAt() != null ? employee.getUpdatedAt() : employee.getCreatedAt(), employee, cursor);
+			}
+			return new EmployeeChangeDTO(EmployeeChangeDTO.Type.DELETE, employee.getId(),
+					employee.getDeletedAt() != null ? employee.getDeletedAt() : employee.getUpdatedAt(), null, cursor);
+		}, Long.toString(since.getTxid()), since.getSeq(), limit);
+	}
+}
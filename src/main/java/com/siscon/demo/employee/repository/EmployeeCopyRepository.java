@@ -0,0 +1,153 @@
+package com.siscon.demo.employee.repository;
+
+import static com.siscon.demo.employee.repository.EmployeeJdbcRepository.column;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.siscon.demo.employee.entity.Employee;
+import com.siscon.demo.employee.utility.Constants;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Carga masiva de empleados mediante el protocolo COPY de PostgreSQL.
+ *
+ * <p>Los registros se envían en formato CSV a una tabla temporal de staging y después se fusionan
+ * con la tabla de empleados en una única sentencia. Debe invocarse dentro de una transacción:
+ * la tabla de staging se elimina automáticamente al confirmarla.</p>
+ */
+@Repository
+@Timed("employee.repository")
+@RequiredArgsConstructor
+public class EmployeeCopyRepository {
+
+	private static final String STAGE_TABLE = Constants.DB_PREFIX + "_employee_stage";
+	private static final String ROW_NUM = "row_num";
+	private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+	private static final String COLUMNS = column("uuid") + ", " + column("firstname") + ", " + column("lastname") + ", "
+			+ column("middlename") + ", " + column("name") + ", " + column("genre") + ", "
+			+ column("birthdate") + ", " + column("dni") + ", " + column("dni_normalized") + ", " + column("position") + ", "
+			+ column("created_at") + ", " + column("deleted_at") + ", " + column("modified_at") + ", "
+			+ column("active");
+
+	private static final String CREATE_STAGE_SQL = "CREATE TEMP TABLE " + STAGE_TABLE + " ON COMMIT DROP AS "
+			+ "SELECT 0::integer AS " + ROW_NUM + ", t.* FROM " + EmployeeJdbcRepository.TABLE + " t WITH NO DATA";
+
+	private static final String COPY_SQL = "COPY " + STAGE_TABLE + " (" + ROW_NUM + ", " + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+	/**
+	 * Inserta las filas de staging cuyo DNI normalizado no existe todavía; ante DNI repetidos dentro de la
+	 * carga gana la primera fila. Devuelve el número de fila de cada registro insertado.
+	 */
+	private static final String MERGE_SQL = "WITH candidates AS ("
+			+ "SELECT DISTINCT ON (s." + column("dni_normalized") + ") s.* FROM " + STAGE_TABLE + " s "
+			+ "ORDER BY s." + column("dni_normalized") + ", s." + ROW_NUM + "), "
+			+ "inserted AS ("
+			+ "INSERT INTO " + EmployeeJdbcRepository.TABLE + " (" + COLUMNS + ") "
+			+ "SELECT " + COLUMNS + " FROM candidates c WHERE NOT EXISTS ("
+			+ "SELECT 1 FROM " + EmployeeJdbcRepository.TABLE + " e WHERE e." + column("dni_normalized") + " = c." + column("dni_normalized") + ") "
+			+ "ON CONFLICT DO NOTHING RETURNING " + column("uuid") + ") "
+			+ "SELECT s." + ROW_NUM + " FROM " + STAGE_TABLE + " s JOIN inserted i ON i." + column("uuid") + " = s." + column("uuid");
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Copia los empleados a la tabla de staging y los fusiona con la tabla de empleados.
+	 * Los empleados deben tener su id asignado previamente.
+	 * @param employees Empleados a cargar
+	 * @return Arreglo paralelo a {@code employees}: true si el registro fue insertado, false si su DNI ya existía
+	 */
+	public boolean[] copyAndMerge(List<Employee> employees) {
+		jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+			try (Statement statement = con.createStatement()) {
+				statement.execute(CREATE_STAGE_SQL);
+			}
+			copy(con.unwrap(PGConnection.class), employees);
+			try (Statement statement = con.createStatement()) {
+				statement.execute("ANALYZE " + STAGE_TABLE);
+			}
+			return null;
+		});
+		boolean[] inserted = new boolean[employees.size()];
+		jdbcTemplate.query(MERGE_SQL, rs -> {
+			inserted[rs.getInt(1)] = true;
+		});
+		return inserted;
+	}
+
+	private void copy(PGConnection connection, List<Employee> employees) throws SQLException {
+		CopyIn copyIn = connection.getCopyAPI().copyIn(COPY_SQL);
+		try {
+			StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 1024);
+			for (int i = 0; i < employees.size(); i++) {
+				appendRow(buffer, i, employees.get(i));
+				if (buffer.length() >= COPY_BUFFER_SIZE) {
+					write(copyIn, buffer);
+				}
+			}
+			write(copyIn, buffer);
+			copyIn.endCopy();
+		} finally {
+			if (copyIn.isActive()) {
+				copyIn.cancelCopy();
+			}
+		}
+	}
+
+	private static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+		if (buffer.length() > 0) {
+			byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+			copyIn.writeToCopy(bytes, 0, bytes.length);
+			buffer.setLength(0);
+		}
+	}
+
+	private static void appendRow(StringBuilder buffer, int rowNum, Employee employee) {
+		buffer.append(rowNum).append(',');
+		appendValue(buffer, employee.getId()).append(',');
+		appendValue(buffer, employee.getFirstname()).append(',');
+		appendValue(buffer, employee.getLastname()).append(',');
+		appendValue(buffer, employee.getMiddlename()).append(',');
+		appendValue(buffer, employee.getName()).append(',');
+		appendValue(buffer, employee.getGenre()).append(',');
+		appendValue(buffer, employee.getBirthdate()).append(',');
+		appendValue(buffer, employee.getDni()).append(',');
+		appendValue(buffer, Employee.normalizeDni(employee.getDni())).append(',');
+		appendValue(buffer, employee.getPosition()).append(',');
+		appendValue(buffer, employee.getCreatedAt()).append(',');
+		appendValue(buffer, employee.getDeletedAt()).append(',');
+		appendValue(buffer, employee.getUpdatedAt()).append(',');
+		buffer.append(employee.isActive()).append('\n');
+	}
+
+	/**
+	 * Escribe un valor en formato CSV: null se envía como campo vacío sin comillas y el resto entre comillas
+	 * dobles, duplicando las comillas internas.
+	 */
+	private static StringBuilder appendValue(StringBuilder buffer, Object value) {
+		if (value == null) {
+			return buffer;
+		}
+		String text = value.toString();
+		buffer.append('"');
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '"') {
+				buffer.append('"');
+			}
+			buffer.append(c);
+		}
+		return buffer.append('"');
+	}
+}
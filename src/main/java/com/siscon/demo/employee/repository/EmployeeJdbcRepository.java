@@ -0,0 +1,352 @@
+package com.siscon.demo.employee.repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Repository;
+
+import com.siscon.demo.employee.entity.Employee;
+import com.siscon.demo.employee.utility.Constants;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Operaciones de escritura sobre la tabla de empleados ejecutadas directamente con JDBC.
+ *
+ * <p>Se utiliza en los procesos masivos donde el ciclo de vida de JPA (persist, flush por registro)
+ * resulta demasiado costoso. Participa en la transacción activa del {@code PlatformTransactionManager},
+ * por lo que comparte la misma conexión que los repositorios de Spring Data.</p>
+ */
+@Repository
+@Timed("employee.repository")
+@RequiredArgsConstructor
+public class EmployeeJdbcRepository {
+
+	public static final String TABLE = Constants.DB_PREFIX + "_employee";
+
+	private static final String INSERT_SQL = "INSERT INTO " + TABLE + " ("
+			+ column("uuid") + ", " + column("firstname") + ", " + column("lastname") + ", "
+			+ column("middlename") + ", " + column("name") + ", " + column("genre") + ", "
+			+ column("birthdate") + ", " + column("dni") + ", " + column("dni_normalized") + ", " + column("position") + ", "
+			+ column("created_at") + ", " + column("deleted_at") + ", " + column("modified_at") + ", "
+			+ column("active") + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String SELECT_COLUMNS = column("uuid") + ", " + column("firstname") + ", " + column("lastname") + ", "
+			+ column("middlename") + ", " + column("name") + ", " + column("genre") + ", "
+			+ column("birthdate") + ", " + column("dni") + ", " + column("position") + ", "
+			+ column("created_at") + ", " + column("deleted_at") + ", " + column("modified_at") + ", "
+			+ column("active");
+
+	/**
+	 * Campos que se pueden modificar con {@link #update(UUID, Map)}. El nombre del campo coincide
+	 * con el de la columna sin prefijo.
+	 */
+	public static final Set<String> UPDATABLE_FIELDS = Set.of("name", "middlename", "firstname", "lastname", "genre",
+			"birthdate", "dni", "position");
+
+	public static final RowMapper<Employee> ROW_MAPPER = (rs, rowNum) -> {
+		Employee employee = new Employee(rs.getObject(column("uuid"), UUID.class), rs.getString(column("name")),
+				rs.getString(column("middlename")), rs.getString(column("firstname")), rs.getString(column("lastname")),
+				rs.getString(column("genre")), rs.getObject(column("birthdate"), LocalDate.class), rs.getString(column("dni")),
+				rs.getString(column("position")), rs.getBoolean(column("active")));
+		employee.setCreatedAt(rs.getObject(column("created_at"), LocalDateTime.class));
+		employee.setDeletedAt(rs.getObject(column("deleted_at"), LocalDateTime.class));
+		employee.setUpdatedAt(rs.getObject(column("modified_at"), LocalDateTime.class));
+		return employee;
+	};
+
+	private static final String SET_ACTIVE = "UPDATE " + TABLE + " SET " + column("active") + " = ?, "
+			+ column("deleted_at") + " = ?, " + column("modified_at") + " = ? WHERE ";
+
+	/**
+	 * Cambia el estado de los ids recibidos y, en la misma sentencia, informa cuáles existen y cuáles
+	 * cambiaron: la consulta principal ve la tabla antes de la actualización.
+	 */
+	private static final String SET_ACTIVE_BY_IDS_SQL = "WITH updated AS ("
+			+ SET_ACTIVE + column("uuid") + " = ANY(?) AND " + column("active") + " = ? RETURNING " + column("uuid") + ") "
+			+ "SELECT e." + column("uuid") + ", u." + column("uuid") + " IS NOT NULL FROM " + TABLE + " e "
+			+ "LEFT JOIN updated u ON u." + column("uuid") + " = e." + column("uuid") + " "
+			+ "WHERE e." + column("uuid") + " = ANY(?)";
+
+	private static final String SET_ACTIVE_BY_POSITION_SQL = SET_ACTIVE + column("position") + " = ? AND "
+			+ column("active") + " = ? RETURNING " + column("uuid");
+
+	/**
+	 * Resultado de {@link #upsertAll(List)} para cada empleado.
+	 */
+	public enum UpsertOutcome {
+		INSERTED, UPDATED, UNCHANGED
+	}
+
+	private static final List<String> UPSERT_FIELDS = List.of("firstname", "lastname", "middlename", "name", "genre",
+			"birthdate", "dni", "position", "active");
+
+	/**
+	 * Inserta los empleados cuyo DNI normalizado no existe y actualiza los existentes solo si algún campo
+	 * cambió. Los que no cambian se descartan antes del {@code INSERT}, de modo que no generan escrituras ni
+	 * bloqueos de fila; la condición se repite en el {@code DO UPDATE} por las filas modificadas
+	 * concurrentemente. Las filas llegan como arreglos (una sentencia por bloque, sin importar su tamaño) y
+	 * la consulta principal, que ve la tabla antes de la sentencia, devuelve por cada fila su id y si fue
+	 * insertada ({@code xmax = 0}), actualizada o ninguna de las dos.
+	 */
+	private static final String UPSERT_SQL = "WITH input AS ("
+			+ "SELECT * FROM unnest(?::uuid[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], "
+			+ "?::varchar[]::date[], ?::varchar[], ?::varchar[], ?::varchar[], ?::boolean[]) WITH ORDINALITY AS i ("
+			+ column("uuid") + ", " + column("firstname") + ", " + column("lastname") + ", " + column("middlename") + ", "
+			+ column("name") + ", " + column("genre") + ", " + column("birthdate") + ", " + column("dni") + ", "
+			+ column("dni_normalized") + ", " + column("position") + ", " + column("active") + ", ord)), "
+			+ "upserted AS ("
+			+ "INSERT INTO " + TABLE + " AS t (" + column("uuid") + ", " + column("firstname") + ", " + column("lastname") + ", "
+			+ column("middlename") + ", " + column("name") + ", " + column("genre") + ", " + column("birthdate") + ", "
+			+ column("dni") + ", " + column("dni_normalized") + ", " + column("position") + ", " + column("created_at") + ", "
+			+ column("deleted_at") + ", " + column("active") + ") "
+			+ "SELECT " + column("uuid") + ", " + column("firstname") + ", " + column("lastname") + ", " + column("middlename") + ", "
+			+ column("name") + ", " + column("genre") + ", " + column("birthdate") + ", " + column("dni") + ", "
+			+ column("dni_normalized") + ", " + column("position") + ", ?, CASE WHEN " + column("active") + " THEN NULL ELSE ?::timestamp END, "
+			+ column("active") + " FROM input i WHERE NOT EXISTS (SELECT 1 FROM " + TABLE + " e WHERE e." + column("dni_normalized")
+			+ " = i." + column("dni_normalized") + " AND " + unchanged("e", "i") + ") ORDER BY ord "
+			+ "ON CONFLICT (" + column("dni_normalized") + ") DO UPDATE SET "
+			+ String.join(", ", UPSERT_FIELDS.stream().map(field -> column(field) + " = EXCLUDED." + column(field)).toList()) + ", "
+			+ column("deleted_at") + " = CASE WHEN EXCLUDED." + column("active") + " THEN NULL ELSE COALESCE(t." + column("deleted_at")
+			+ ", EXCLUDED." + column("deleted_at") + ") END, "
+			+ column("modified_at") + " = EXCLUDED." + column("created_at") + " "
+			+ "WHERE NOT " + unchanged("t", "EXCLUDED") + " "
+			+ "RETURNING t." + column("dni_normalized") + ", t." + column("uuid") + ", t.xmax = 0 AS inserted) "
+			+ "SELECT COALESCE(u." + column("uuid") + ", e." + column("uuid") + "), u.inserted FROM input i "
+			+ "LEFT JOIN upserted u ON u." + column("dni_normalized") + " = i." + column("dni_normalized") + " "
+			+ "LEFT JOIN " + TABLE + " e ON e." + column("dni_normalized") + " = i." + column("dni_normalized") + " "
+			+ "ORDER BY i.ord";
+
+	/**
+	 * Ids por DNI normalizado, para las filas que la consulta principal no ve: una fila confirmada por otra
+	 * transacción durante el upsert, con los mismos valores, no se escribe ni aparece en la instantánea de la
+	 * sentencia, pero sí en la de una sentencia nueva.
+	 */
+	private static final String IDS_BY_DNI_SQL = "SELECT " + column("dni_normalized") + ", " + column("uuid") + " FROM " + TABLE
+			+ " WHERE " + column("dni_normalized") + " = ANY(?::varchar[])";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Inserta todos los empleados usando batching de JDBC.
+	 * Los empleados deben tener su id asignado previamente.
+	 * @param employees Empleados a insertar
+	 * @param batchSize Número de sentencias enviadas por batch
+	 */
+	public void insertAll(List<Employee> employees, int batchSize) {
+		jdbcTemplate.batchUpdate(INSERT_SQL, employees, batchSize, EmployeeJdbcRepository::bind);
+	}
+
+	/**
+	 * Inserta o actualiza por DNI normalizado los empleados recibidos con una sola sentencia
+	 * ({@code INSERT ... ON CONFLICT DO UPDATE}). Los existentes solo se escriben si cambió alguno de sus
+	 * campos, incluido el estado activo; su fecha de creación e id no cambian.
+	 *
+	 * <p>Cada empleado debe tener asignado el id que recibirá si se inserta; al terminar tiene el id
+	 * almacenado, también si otra transacción lo insertó con los mismos valores durante la sentencia
+	 * ({@link UpsertOutcome#UNCHANGED}). Los DNI normalizados no deben repetirse dentro de la lista.</p>
+	 * @param employees Empleados a sincronizar
+	 * @return El resultado de cada empleado, en el mismo orden de la lista
+	 */
+	public UpsertOutcome[] upsertAll(List<Employee> employees) {
+		UpsertOutcome[] outcomes = new UpsertOutcome[employees.size()];
+		if (employees.isEmpty()) {
+			return outcomes;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		int[] row = { 0 };
+		jdbcTemplate.query(con -> {
+			PreparedStatement ps = con.prepareStatement(UPSERT_SQL);
+			ps.setArray(1, con.createArrayOf("uuid", employees.stream().map(Employee::getId).toArray()));
+			ps.setArray(2, con.createArrayOf("varchar", employees.stream().map(Employee::getFirstname).toArray()));
+			ps.setArray(3, con.createArrayOf("varchar", employees.stream().map(Employee::getLastname).toArray()));
+			ps.setArray(4, con.createArrayOf("varchar", employees.stream().map(Employee::getMiddlename).toArray()));
+			ps.setArray(5, con.createArrayOf("varchar", employees.stream().map(Employee::getName).toArray()));
+			ps.setArray(6, con.createArrayOf("varchar", employees.stream().map(Employee::getGenre).toArray()));
+			ps.setArray(7, con.createArrayOf("varchar", employees.stream().map(employee -> employee.getBirthdate().toString()).toArray()));
+			ps.setArray(8, con.createArrayOf("varchar", employees.stream().map(Employee::getDni).toArray()));
+			ps.setArray(9, con.createArrayOf("varchar", employees.stream().map(employee -> Employee.normalizeDni(employee.getDni())).toArray()));
+			ps.setArray(10, con.createArrayOf("varchar", employees.stream().map(Employee::getPosition).toArray()));
+			ps.setArray(11, con.createArrayOf("boolean", employees.stream().map(Employee::isActive).toArray()));
+			ps.setObject(12, now);
+			ps.setObject(13, now);
+			return ps;
+		}, rs -> {
+			int i = row[0]++;
+			employees.get(i).setId(rs.getObject(1, UUID.class));
+			Boolean inserted = rs.getObject(2, Boolean.class);
+			outcomes[i] = inserted == null ? UpsertOutcome.UNCHANGED : inserted ? UpsertOutcome.INSERTED : UpsertOutcome.UPDATED;
+		});
+		Map<String, Employee> withoutId = new HashMap<>();
+		employees.stream().filter(employee -> employee.getId() == null)
+				.forEach(employee -> withoutId.put(Employee.normalizeDni(employee.getDni()), employee));
+		if (!withoutId.isEmpty()) {
+			jdbcTemplate.query(con -> {
+				PreparedStatement ps = con.prepareStatement(IDS_BY_DNI_SQL);
+				ps.setArray(1, con.createArrayOf("varchar", withoutId.keySet().toArray()));
+				return ps;
+			}, rs -> {
+				withoutId.get(rs.getString(1)).setId(rs.getObject(2, UUID.class));
+			});
+		}
+		return outcomes;
+	}
+
+	/**
+	 * Inserta un empleado protegido por un savepoint, de modo que un error (por ejemplo un DNI duplicado)
+	 * no aborte la transacción en curso y permita continuar con el resto de registros.
+	 * @param employee Empleado con id asignado
+	 */
+	public void insertWithSavepoint(Employee employee) {
+		jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+			Savepoint savepoint = con.setSavepoint();
+			try (PreparedStatement ps = con.prepareStatement(INSERT_SQL)) {
+				bind(ps, employee);
+				ps.executeUpdate();
+			} catch (SQLException e) {
+				con.rollback(savepoint);
+				throw e;
+			}
+			con.releaseSavepoint(savepoint);
+			return null;
+		});
+	}
+
+	/**
+	 * Actualiza solo las columnas indicadas de un empleado activo en una sola sentencia, sin leerlo antes.
+	 * También registra la fecha de modificación y, si cambia el DNI, su valor normalizado.
+	 * @param id Id del empleado
+	 * @param changes Valores nuevos por campo, los campos deben estar en {@link #UPDATABLE_FIELDS}
+	 * @return Número de registros actualizados, 0 si no existe un empleado activo con el id
+	 * @throws IllegalArgumentException si no hay cambios o algún campo no se puede actualizar
+	 */
+	public int update(UUID id, Map<String, Object> changes) {
+		List<Object> args = new ArrayList<>(changes.size() + 3);
+		return jdbcTemplate.update(updateSql(id, changes, args), args.toArray());
+	}
+
+	/**
+	 * Igual que {@link #update(UUID, Map)}, pero devuelve el empleado tal como queda almacenado
+	 * usando {@code RETURNING}, sin una consulta adicional.
+	 * @return El empleado actualizado, vacío si no existe un empleado activo con el id
+	 */
+	public Optional<Employee> updateReturning(UUID id, Map<String, Object> changes) {
+		List<Object> args = new ArrayList<>(changes.size() + 3);
+		String sql = updateSql(id, changes, args) + " RETURNING " + SELECT_COLUMNS;
+		return jdbcTemplate.query(sql, ROW_MAPPER, args.toArray()).stream().findFirst();
+	}
+
+	private static String updateSql(UUID id, Map<String, Object> changes, List<Object> args) {
+		if (changes.isEmpty()) {
+			throw new IllegalArgumentException("No fields to update");
+		}
+		StringBuilder sql = new StringBuilder("UPDATE ").append(TABLE).append(" SET ");
+		changes.forEach((field, value) -> {
+			if (!UPDATABLE_FIELDS.contains(field)) {
+				throw new IllegalArgumentException("Field cannot be updated: " + field);
+			}
+			sql.append(column(field)).append(" = ?, ");
+			args.add(value);
+			if ("dni".equals(field)) {
+				sql.append(column("dni_normalized")).append(" = ?, ");
+				args.add(Employee.normalizeDni((String) value));
+			}
+		});
+		sql.append(column("modified_at")).append(" = ? WHERE ").append(column("uuid")).append(" = ? AND ").append(column("active"));
+		args.add(LocalDateTime.now());
+		args.add(id);
+		return sql.toString();
+	}
+
+	/**
+	 * Activa o desactiva (borrado lógico) los empleados indicados con una sola sentencia. Solo se modifican
+	 * los empleados cuyo estado es distinto del solicitado; al desactivar se registra la fecha de borrado
+	 * y al activar se limpia.
+	 * @param ids Ids de los empleados
+	 * @param active Estado final
+	 * @return Por cada id existente, true si cambió de estado y false si ya tenía el estado solicitado.
+	 *         Los ids que no existen no aparecen en el resultado
+	 */
+	public Map<UUID, Boolean> setActive(Collection<UUID> ids, boolean active) {
+		Map<UUID, Boolean> result = new HashMap<>();
+		if (ids.isEmpty()) {
+			return result;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.query(con -> {
+			PreparedStatement ps = con.prepareStatement(SET_ACTIVE_BY_IDS_SQL);
+			Array array = con.createArrayOf("uuid", ids.toArray());
+			ps.setBoolean(1, active);
+			ps.setObject(2, active ? null : now, Types.TIMESTAMP);
+			ps.setObject(3, now);
+			ps.setArray(4, array);
+			ps.setBoolean(5, !active);
+			ps.setArray(6, array);
+			return ps;
+		}, rs -> {
+			result.put(rs.getObject(1, UUID.class), rs.getBoolean(2));
+		});
+		return result;
+	}
+
+	/**
+	 * Activa o desactiva con una sola sentencia todos los empleados de un puesto cuyo estado es distinto
+	 * del solicitado.
+	 * @param position Puesto de los empleados
+	 * @param active Estado final
+	 * @return Ids de los empleados que cambiaron de estado
+	 */
+	public List<UUID> setActiveByPosition(String position, boolean active) {
+		LocalDateTime now = LocalDateTime.now();
+		return jdbcTemplate.queryForList(SET_ACTIVE_BY_POSITION_SQL, UUID.class, active,
+				new SqlParameterValue(Types.TIMESTAMP, active ? null : now), now, position, !active);
+	}
+
+	/**
+	 * Condición que se cumple si los campos sincronizados de ambas filas son iguales (los null se
+	 * consideran iguales).
+	 */
+	private static String unchanged(String current, String incoming) {
+		return "(" + String.join(", ", UPSERT_FIELDS.stream().map(field -> current + "." + column(field)).toList()) + ") IS NOT DISTINCT FROM ("
+				+ String.join(", ", UPSERT_FIELDS.stream().map(field -> incoming + "." + column(field)).toList()) + ")";
+	}
+
+	public static String column(String name) {
+		return Constants.DB_PREFIX + "_" + name;
+	}
+
+	private static void bind(PreparedStatement ps, Employee employee) throws SQLException {
+		ps.setObject(1, employee.getId());
+		ps.setString(2, employee.getFirstname());
+		ps.setString(3, employee.getLastname());
+		ps.setString(4, employee.getMiddlename());
+		ps.setString(5, employee.getName());
+		ps.setString(6, employee.getGenre());
+		ps.setObject(7, employee.getBirthdate());
+		ps.setString(8, employee.getDni());
+		ps.setString(9, Employee.normalizeDni(employee.getDni()));
+		ps.setString(10, employee.getPosition());
+		ps.setObject(11, employee.getCreatedAt());
+		ps.setObject(12, employee.getDeletedAt());
+		ps.setObject(13, employee.getUpdatedAt());
+		ps.setBoolean(14, employee.isActive());
+	}
+}
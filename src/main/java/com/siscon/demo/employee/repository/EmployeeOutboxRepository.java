@@ -0,0 +1,61 @@
+package com.siscon.demo.employee.repository;
+
+import static com.siscon.demo.employee.repository.EmployeeJdbcRepository.column;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.siscon.demo.employee.dto.EmployeeEventDTO;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Acceso al outbox de eventos de empleados, que llenan los triggers creados por
+ * {@link EmployeeSchemaInitializer} en la misma transacción que cada cambio.
+ *
+ * <p>Los métodos deben llamarse dentro de una transacción: el bloqueo se libera y los eventos extraídos se
+ * eliminan definitivamente al confirmarla, y vuelven al outbox si se revierte.</p>
+ */
+@Repository
+@Timed("employee.repository")
+@RequiredArgsConstructor
+public class EmployeeOutboxRepository {
+
+	private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(hashtext('" + EmployeeSchemaInitializer.OUTBOX_TABLE + "'))";
+
+	private static final String DRAIN_SQL = "WITH batch AS (SELECT " + column("id") + " FROM " + EmployeeSchemaInitializer.OUTBOX_TABLE
+			+ " ORDER BY " + column("id") + " LIMIT ?) "
+			+ "DELETE FROM " + EmployeeSchemaInitializer.OUTBOX_TABLE + " o USING batch b WHERE o." + column("id") + " = b." + column("id")
+			+ " RETURNING o." + column("id") + ", o." + column("type") + ", o." + column("employee_uuid") + ", o." + column("created_at")
+			+ ", o." + column("payload") + "::text";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Toma el bloqueo del outbox hasta el final de la transacción, para que una sola instancia publique a la
+	 * vez y se conserve el orden de los eventos.
+	 * @return true si se obtuvo el bloqueo, false si otra instancia lo tiene
+	 */
+	public boolean tryLock() {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class));
+	}
+
+	/**
+	 * Extrae los eventos más antiguos del outbox con una sola sentencia.
+	 * @param limit Número máximo de eventos
+	 * @return Los eventos en el orden en que se registraron
+	 */
+	public List<EmployeeEventDTO> drain(int limit) {
+		List<EmployeeEventDTO> events = jdbcTemplate.query(DRAIN_SQL, (rs, rowNum) -> new EmployeeEventDTO(rs.getLong(1),
+				EmployeeEventDTO.Type.valueOf(rs.getString(2)), rs.getObject(3, UUID.class),
+				rs.getTimestamp(4).toLocalDateTime(), rs.getString(5)), limit);
+		// RETURNING no garantiza el orden de la subconsulta
+		events.sort(Comparator.comparingLong(EmployeeEventDTO::getSequence));
+		return events;
+	}
+}
@@ -1,18 +1,30 @@
 package com.siscon.demo.employee.repository;
 
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
 import com.siscon.demo.employee.entity.Employee;
 
+import jakarta.persistence.QueryHint;
 
-public interface EmployeeRepository extends PagingAndSortingRepository<Employee, UUID>, JpaRepository<Employee, UUID>{
+
+public interface EmployeeRepository extends PagingAndSortingRepository<Employee, UUID>, JpaRepository<Employee, UUID>, EmployeeRepositoryCustom {
 
 	Optional<Employee> findByDniIgnoreCase(String dni);
     Optional<Employee> findByDniIgnoreCaseAndActive(String dni, boolean active);
@@ -20,4 +32,33 @@ public interface EmployeeRepository extends PagingAndSortingRepository<Employee,
     Page<Employee> findByNameIgnoreCaseAndLastnameIgnoreCaseAndActive(String name, String lastname,
 			Boolean active, Pageable pageable);
     Optional<Employee> findByIdAndActiveTrue(UUID dni);
+
+    Optional<Employee> findByDniNormalizedAndActiveTrue(String dniNormalized);
+    List<Employee> findByIdInAndActiveTrue(Collection<UUID> ids);
+    List<Employee> findByDniNormalizedInAndActiveTrue(Collection<String> dnisNormalized);
+    boolean existsByDniNormalized(String dniNormalized);
+
+    /**
+     * Devuelve los DNI normalizados de la lista que ya existen en la base de datos.
+     * @param dnis DNI normalizados con {@link Employee#normalizeDni(String)}
+     */
+    @Query("select e.dniNormalized from Employee e where e.dniNormalized in :dnis")
+    List<String> findExistingDnis(Collection<String> dnis);
+
+    /**
+     * Página de empleados a partir de una posición de scroll. Con una posición keyset la consulta
+     * busca directamente desde los valores de la última fila (sin OFFSET) y no ejecuta COUNT.
+     */
+    Window<Employee> findBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Recorre todos los empleados con un cursor del lado del servidor, leyendo {@code fetchSize} filas por viaje.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @QueryHints({
+    	@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+    	@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e from Employee e")
+    Stream<Employee> streamAll();
 }
\ No newline at end of file
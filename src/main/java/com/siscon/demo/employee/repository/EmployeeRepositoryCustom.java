@@ -0,0 +1,12 @@
+package com.siscon.demo.employee.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface EmployeeRepositoryCustom {
+
+	Page<Map<String, Object>> findAllFields(List<String> fields, Pageable pageable);
+}
@@ -0,0 +1,87 @@
+package com.siscon.demo.employee.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.siscon.demo.employee.entity.Employee;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Consultas de empleados que seleccionan únicamente los campos solicitados (sparse fieldsets).
+ *
+ * <p>Se ejecutan como consultas de tuplas: no se instancian entidades ni se registran en el contexto
+ * de persistencia, y la base de datos solo devuelve las columnas pedidas.</p>
+ */
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+	/**
+	 * Campos de Employee que se pueden solicitar en una proyección.
+	 */
+	public static final Set<String> PROJECTABLE_FIELDS = Set.of("id", "firstname", "lastname", "middlename", "name",
+			"genre", "birthdate", "dni", "position", "createdAt", "deletedAt", "updatedAt", "active");
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Recupera una página de empleados con solo los campos indicados.
+	 * @param requestedFields Campos a seleccionar, en el orden en que se devolverán; los repetidos se seleccionan una vez
+	 * @param pageable Paginación y ordenamiento (se puede ordenar por campos no seleccionados)
+	 * @return Página de mapas campo/valor
+	 * @throws IllegalArgumentException si no se indica ningún campo o alguno no existe
+	 */
+	@Override
+	public Page<Map<String, Object>> findAllFields(List<String> requestedFields, Pageable pageable) {
+		if (requestedFields == null || requestedFields.isEmpty()) {
+			throw new IllegalArgumentException("At least one field is required");
+		}
+		// Un alias repetido hace fallar la consulta de Hibernate
+		List<String> fields = requestedFields.stream().distinct().toList();
+		fields.stream().filter(field -> !PROJECTABLE_FIELDS.contains(field)).findFirst().ifPresent(field -> {
+			throw new IllegalArgumentException("Unknown field: " + field + ", supported: " + PROJECTABLE_FIELDS);
+		});
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Employee> root = query.from(Employee.class);
+		List<Selection<?>> selections = new ArrayList<>(fields.size());
+		fields.forEach(field -> selections.add(root.get(field).alias(field)));
+		query.multiselect(selections);
+		query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+		TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+		if (pageable.isPaged()) {
+			typedQuery.setFirstResult((int) pageable.getOffset());
+			typedQuery.setMaxResults(pageable.getPageSize());
+		}
+		List<Map<String, Object>> content = new ArrayList<>();
+		for (Tuple tuple : typedQuery.getResultList()) {
+			Map<String, Object> row = new LinkedHashMap<>();
+			fields.forEach(field -> row.put(field, tuple.get(field)));
+			content.add(row);
+		}
+		return PageableExecutionUtils.getPage(content, pageable, this::count);
+	}
+
+	private long count() {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		query.select(cb.count(query.from(Employee.class)));
+		return entityManager.createQuery(query).getSingleResult();
+	}
+}
@@ -0,0 +1,252 @@
+package com.siscon.demo.employee.repository;
+
+import static com.siscon.demo.employee.repository.EmployeeJdbcRepository.column;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Ajustes de esquema que {@code spring.jpa.hibernate.ddl-auto=update} no puede realizar por sí solo.
+ *
+ * <p>Se ejecuta al iniciar la aplicación, después de que Hibernate actualiza el esquema (depende del
+ * bean {@code entityManagerFactory}) y antes de que el servidor web acepte peticiones. Todas las sentencias
+ * son idempotentes.</p>
+ */
+@Log4j2
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class EmployeeSchemaInitializer implements InitializingBean {
+
+	private static final String BACKFILL_DNI_NORMALIZED_SQL = "UPDATE " + EmployeeJdbcRepository.TABLE
+			+ " SET " + column("dni_normalized") + " = upper(trim(" + column("dni") + "))"
+			+ " WHERE " + column("dni_normalized") + " IS NULL";
+
+	public static final String CHANGE_TXID = column("change_txid");
+	public static final String CHANGE_SEQ = column("change_seq");
+
+	private static final String CHANGE_SEQUENCE = EmployeeJdbcRepository.TABLE + "_change_seq";
+	private static final String CHANGE_FUNCTION = EmployeeJdbcRepository.TABLE + "_track_change";
+	private static final String CHANGE_TRIGGER = EmployeeJdbcRepository.TABLE + "_track_change";
+
+	private static final String CHANGE_INDEX = "idxEmployee_Change";
+
+	/**
+	 * Filas marcadas por cada transacción al numerar los cambios de los registros anteriores al trigger.
+	 */
+	private static final int CHANGE_BACKFILL_BATCH_SIZE = 10_000;
+
+	private static final String CHANGE_COLUMNS_EXIST_SQL = "SELECT EXISTS (SELECT 1 FROM information_schema.columns "
+			+ "WHERE table_schema = current_schema() AND table_name = '" + EmployeeJdbcRepository.TABLE + "' AND column_name = '" + CHANGE_SEQ + "')";
+
+	private static final String CHANGE_INDEX_VALID_SQL = "SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid "
+			+ "WHERE c.relname = lower('" + CHANGE_INDEX + "') AND c.relnamespace = current_schema()::regnamespace";
+
+	/**
+	 * Cada inserción o actualización que cambia la fila registra el id de la transacción que la escribe y
+	 * un número de secuencia. El id de transacción se obtiene antes que la secuencia, de modo que ambos
+	 * crecen en el mismo orden dentro de cada sesión. Las columnas se agregan sin valor por defecto, lo que
+	 * solo cambia el catálogo; {@code lock_timeout} evita que el ALTER quede en cola detrás de una transacción
+	 * larga bloqueando las lecturas de la tabla.
+	 */
+	private static final List<String> CHANGE_TRACKING_SQL = List.of(
+			"SET LOCAL lock_timeout = '5s'",
+			"ALTER TABLE " + EmployeeJdbcRepository.TABLE + " ADD COLUMN IF NOT EXISTS " + CHANGE_TXID + " xid8, "
+					+ "ADD COLUMN IF NOT EXISTS " + CHANGE_SEQ + " bigint",
+			"CREATE SEQUENCE IF NOT EXISTS " + CHANGE_SEQUENCE,
+			"CREATE OR REPLACE FUNCTION " + CHANGE_FUNCTION + "() RETURNS trigger AS $$ BEGIN "
+					+ "IF TG_OP = 'UPDATE' AND NEW IS NOT DISTINCT FROM OLD THEN RETURN NEW; END IF; "
+					+ "NEW." + CHANGE_TXID + " := pg_current_xact_id(); "
+					+ "NEW." + CHANGE_SEQ + " := nextval('" + CHANGE_SEQUENCE + "'); "
+					+ "RETURN NEW; END $$ LANGUAGE plpgsql",
+			"DO $$ BEGIN IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = '" + CHANGE_TRIGGER + "') THEN "
+					+ "CREATE TRIGGER " + CHANGE_TRIGGER + " BEFORE INSERT OR UPDATE ON " + EmployeeJdbcRepository.TABLE
+					+ " FOR EACH ROW EXECUTE FUNCTION " + CHANGE_FUNCTION + "(); END IF; END $$");
+
+	/**
+	 * Límite superior del siguiente lote de registros a numerar, en orden de id; null si no quedan más.
+	 */
+	private static final String CHANGE_BACKFILL_UPPER_SQL = "SELECT " + column("uuid") + " FROM (SELECT " + column("uuid")
+			+ " FROM " + EmployeeJdbcRepository.TABLE + " WHERE " + column("uuid") + " > ? ORDER BY " + column("uuid") + " LIMIT ?) batch"
+			+ " ORDER BY " + column("uuid") + " DESC LIMIT 1";
+
+	/**
+	 * Pasa por el trigger los registros del lote que todavía no tienen número de cambio; el trigger reemplaza
+	 * el 0 por el siguiente número de la secuencia.
+	 */
+	private static final String CHANGE_BACKFILL_SQL = "UPDATE " + EmployeeJdbcRepository.TABLE + " SET " + CHANGE_SEQ + " = 0 WHERE "
+			+ column("uuid") + " > ? AND " + column("uuid") + " <= ? AND " + CHANGE_SEQ + " IS NULL";
+
+	private static final String DROP_INVALID_CHANGE_INDEX_SQL = "DROP INDEX CONCURRENTLY IF EXISTS " + CHANGE_INDEX;
+
+	private static final String CHANGE_INDEX_SQL = "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + CHANGE_INDEX + " ON "
+			+ EmployeeJdbcRepository.TABLE + " (" + CHANGE_TXID + ", " + CHANGE_SEQ + ")";
+
+	public static final String OUTBOX_TABLE = EmployeeJdbcRepository.TABLE + "_outbox";
+
+	private static final String OUTBOX_INSERT_TRIGGER = OUTBOX_TABLE + "_insert";
+	private static final String OUTBOX_UPDATE_TRIGGER = OUTBOX_TABLE + "_update";
+
+	/**
+	 * Estado del empleado en los eventos del outbox, con los mismos nombres de campo que la API.
+	 */
+	private static String outboxPayload(String row) {
+		return "json_build_object('id', " + row + "." + column("uuid") + ", 'name', " + row + "." + column("name")
+				+ ", 'middlename', " + row + "." + column("middlename") + ", 'firstname', " + row + "." + column("firstname")
+				+ ", 'lastname', " + row + "." + column("lastname") + ", 'genre', " + row + "." + column("genre")
+				+ ", 'birthdate', " + row + "." + column("birthdate") + ", 'dni', " + row + "." + column("dni")
+				+ ", 'position', " + row + "." + column("position") + ", 'active', " + row + "." + column("active")
+				+ ", 'createdAt', " + row + "." + column("created_at") + ", 'updatedAt', " + row + "." + column("modified_at")
+				+ ", 'deletedAt', " + row + "." + column("deleted_at") + ")";
+	}
+
+	private static final String OUTBOX_INSERT = "INSERT INTO " + OUTBOX_TABLE + " (" + column("employee_uuid") + ", " + column("type") + ", "
+			+ column("payload") + ") ";
+
+	private static final String OUTBOX_UPDATE_FUNCTION_SQL = "CREATE OR REPLACE FUNCTION " + OUTBOX_UPDATE_TRIGGER + "() RETURNS trigger AS $$ BEGIN "
+			+ OUTBOX_INSERT + "SELECT n." + column("uuid") + ", CASE WHEN o." + column("active") + " AND NOT n." + column("active")
+			+ " THEN 'DELETED' WHEN n." + column("active") + " AND NOT o." + column("active") + " THEN 'RESTORED' ELSE 'UPDATED' END, "
+			+ outboxPayload("n") + " FROM new_rows n JOIN old_rows o ON o." + column("uuid") + " = n." + column("uuid")
+			+ " WHERE " + outboxPayload("n") + "::jsonb IS DISTINCT FROM " + outboxPayload("o") + "::jsonb; "
+			+ "RETURN NULL; END $$ LANGUAGE plpgsql";
+
+	/**
+	 * Triggers por sentencia con tablas de transición: cada INSERT o UPDATE sobre los empleados, incluidos
+	 * los de varias filas (batch, COPY, upsert), agrega sus eventos al outbox con una sola sentencia en la
+	 * misma transacción. Solo generan eventos las actualizaciones que cambian el estado publicado: las que
+	 * solo cambian columnas internas, como el número de cambio del feed, no.
+	 */
+	private static final List<String> OUTBOX_SQL = List.of(
+			"CREATE TABLE IF NOT EXISTS " + OUTBOX_TABLE + " (" + column("id") + " bigserial PRIMARY KEY, "
+					+ column("employee_uuid") + " uuid NOT NULL, " + column("type") + " varchar(16) NOT NULL, "
+					+ column("payload") + " json NOT NULL, " + column("created_at") + " timestamp NOT NULL DEFAULT now())",
+			"CREATE OR REPLACE FUNCTION " + OUTBOX_INSERT_TRIGGER + "() RETURNS trigger AS $$ BEGIN "
+					+ OUTBOX_INSERT + "SELECT n." + column("uuid") + ", 'CREATED', " + outboxPayload("n") + " FROM new_rows n; "
+					+ "RETURN NULL; END $$ LANGUAGE plpgsql",
+			OUTBOX_UPDATE_FUNCTION_SQL,
+			"DO $$ BEGIN IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = '" + OUTBOX_INSERT_TRIGGER + "') THEN "
+					+ "CREATE TRIGGER " + OUTBOX_INSERT_TRIGGER + " AFTER INSERT ON " + EmployeeJdbcRepository.TABLE
+					+ " REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION " + OUTBOX_INSERT_TRIGGER + "(); END IF; END $$",
+			"DO $$ BEGIN IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = '" + OUTBOX_UPDATE_TRIGGER + "') THEN "
+					+ "CREATE TRIGGER " + OUTBOX_UPDATE_TRIGGER + " AFTER UPDATE ON " + EmployeeJdbcRepository.TABLE
+					+ " REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION " + OUTBOX_UPDATE_TRIGGER
+					+ "(); END IF; END $$");
+
+	private static final String OUTBOX_EXISTS_SQL = "SELECT to_regclass('" + OUTBOX_TABLE + "') IS NOT NULL";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void afterPropertiesSet() {
+		backfillDniNormalized();
+		createChangeTracking();
+		createOutbox();
+	}
+
+	/**
+	 * Completa el DNI normalizado de los registros creados antes de existir la columna.
+	 */
+	private void backfillDniNormalized() {
+		try {
+			int rows = jdbcTemplate.update(BACKFILL_DNI_NORMALIZED_SQL);
+			if (rows > 0) {
+				log.info("Normalized DNI filled for " + rows + " employee(s)");
+			}
+		} catch (DataAccessException e) {
+			log.error("Normalized DNI could not be filled, there are DNIs that only differ in case (the DNI filter stays disabled): " + ExceptionUtils.getRootCauseMessage(e));
+		}
+	}
+
+	/**
+	 * Migración del feed de cambios, que se aplica una vez y continúa donde quedó si se interrumpe. Crea las
+	 * columnas, la secuencia y el trigger en una transacción, numera los registros anteriores al trigger en
+	 * lotes de {@link #CHANGE_BACKFILL_BATCH_SIZE} (cada lote en su propia transacción) y construye el índice
+	 * con {@code CONCURRENTLY}, sin bloquear las escrituras. Una vez que el índice es válido, el inicio solo
+	 * consulta el catálogo.
+	 */
+	private void createChangeTracking() {
+		try {
+			if (Boolean.TRUE.equals(changeIndexValid())) {
+				return;
+			}
+			if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(CHANGE_COLUMNS_EXIST_SQL, Boolean.class))) {
+				new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()))
+						.executeWithoutResult(status -> CHANGE_TRACKING_SQL.forEach(jdbcTemplate::execute));
+				log.info("Employee change tracking created");
+			}
+			if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(OUTBOX_EXISTS_SQL, Boolean.class))) {
+				// Un outbox creado antes de excluir las columnas internas publicaría un evento por cada registro numerado
+				jdbcTemplate.execute(OUTBOX_UPDATE_FUNCTION_SQL);
+			}
+			backfillChangeSeq();
+			if (Boolean.FALSE.equals(changeIndexValid())) {
+				// Quedó de una construcción concurrente interrumpida
+				jdbcTemplate.execute(DROP_INVALID_CHANGE_INDEX_SQL);
+			}
+			jdbcTemplate.execute(CHANGE_INDEX_SQL);
+			log.info("Employee change feed index created");
+		} catch (DataAccessException e) {
+			log.error("Employee change tracking could not be created, the change feed is not available: " + ExceptionUtils.getRootCauseMessage(e));
+		}
+	}
+
+	/**
+	 * @return Si el índice del feed es válido, null si no existe
+	 */
+	private Boolean changeIndexValid() {
+		return jdbcTemplate.query(CHANGE_INDEX_VALID_SQL, rs -> rs.next() ? rs.getBoolean(1) : null);
+	}
+
+	/**
+	 * Numera los registros anteriores al trigger recorriendo la tabla por id, un lote por transacción.
+	 */
+	private void backfillChangeSeq() {
+		UUID lower = new UUID(0, 0);
+		long rows = 0;
+		while (true) {
+			UUID upper = jdbcTemplate.query(CHANGE_BACKFILL_UPPER_SQL, rs -> rs.next() ? rs.getObject(1, UUID.class) : null,
+					lower, CHANGE_BACKFILL_BATCH_SIZE);
+			if (upper == null) {
+				break;
+			}
+			rows += jdbcTemplate.update(CHANGE_BACKFILL_SQL, lower, upper);
+			lower = upper;
+		}
+		if (rows > 0) {
+			log.info("Change number assigned to " + rows + " existing employee(s)");
+		}
+	}
+
+	/**
+	 * Crea la tabla, las funciones y los triggers del outbox de eventos en una sola transacción, solo si la
+	 * tabla todavía no existe: es una migración que se aplica una vez. Después, el inicio de la aplicación no
+	 * vuelve a tocar los triggers; la base de datos es compartida por todas las instancias, así que dejar de
+	 * registrar eventos o volver a hacerlo es un paso explícito de administración
+	 * ({@code db/disable-employee-outbox.sql} y {@code db/enable-employee-outbox.sql}).
+	 * {@code employee.outbox.enabled} solo detiene el relay de esta instancia.
+	 */
+	private void createOutbox() {
+		try {
+			if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(OUTBOX_EXISTS_SQL, Boolean.class))) {
+				return;
+			}
+			new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()))
+					.executeWithoutResult(status -> OUTBOX_SQL.forEach(jdbcTemplate::execute));
+			log.info("Employee outbox created");
+		} catch (DataAccessException e) {
+			log.error("Employee outbox could not be created, events are not published: " + ExceptionUtils.getRootCauseMessage(e));
+		}
+	}
+}
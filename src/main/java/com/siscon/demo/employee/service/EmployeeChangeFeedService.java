@@ -0,0 +1,293 @@
+package com.siscon.demo.employee.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.siscon.demo.employee.dto.ChangeFeedDTO;
+import com.siscon.demo.employee.dto.EmployeeChangeDTO;
+import com.siscon.demo.employee.exception.CapacityExceededException;
+import com.siscon.demo.employee.repository.EmployeeChangeRepository;
+import com.siscon.demo.employee.utility.ChangeCursor;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Feed de cambios de empleados para los sistemas que mantienen una copia de los datos.
+ *
+ * <p>Cada empleado aparece una sola vez con su último estado: {@code UPSERT} si está activo y {@code DELETE}
+ * (tombstone) si fue eliminado con borrado lógico. El cliente guarda el cursor {@code next} y pide solo lo
+ * que cambió desde entonces; sin cursor recibe todos los empleados, lo que sirve como carga inicial.</p>
+ *
+ * <p>La variante Server-Sent Events envía los cambios a medida que se confirman. Un solo hilo consulta el
+ * feed cada {@code employee.changes.stream.poll-interval} mientras haya suscriptores, con una consulta por
+ * cada cursor distinto (normalmente todos los suscriptores al día comparten el mismo). El id de cada
+ * evento es su cursor, así que un cliente que se reconecta con {@code Last-Event-ID} continúa donde
+ * quedó.</p>
+ *
+ * <p>El hilo que consulta no escribe en las conexiones: deja los cambios en la cola de cada suscriptor y
+ * un hilo de envío por suscriptor la vacía, así que un cliente lento solo se retrasa a sí mismo (hay como
+ * máximo {@code employee.changes.stream.max-subscribers} hilos de envío). Solo se consulta para los
+ * suscriptores cuya cola está vacía, de modo que cada cola tiene como máximo una página del feed. Un
+ * suscriptor que no termina de recibir su cola en {@code employee.changes.stream.max-lag} se desconecta; al
+ * reconectarse con {@code Last-Event-ID} no pierde cambios.</p>
+ */
+@Log4j2
+@Service
+public class EmployeeChangeFeedService implements SmartLifecycle {
+
+	private final EmployeeChangeRepository changeRepository;
+	private final int maxSize;
+	private final int maxSubscribers;
+	private final long streamTimeoutMillis;
+	private final long pollMillis;
+	private final long maxLagNanos;
+	private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+	private final ScheduledExecutorService poller;
+	private final ExecutorService sender;
+
+	private volatile boolean running;
+
+	public EmployeeChangeFeedService(EmployeeChangeRepository changeRepository,
+			@Value("${employee.changes.max-size:1000}") int maxSize,
+			@Value("${employee.changes.stream.max-subscribers:100}") int maxSubscribers,
+			@Value("${employee.changes.stream.poll-interval:1s}") Duration pollInterval,
+			@Value("${employee.changes.stream.timeout:30m}") Duration streamTimeout,
+			@Value("${employee.changes.stream.max-lag:30s}") Duration maxLag) {
+		this.changeRepository = changeRepository;
+		this.maxSize = maxSize;
+		this.maxSubscribers = maxSubscribers;
+		this.streamTimeoutMillis = streamTimeout.toMillis();
+		this.pollMillis = pollInterval.toMillis();
+		this.maxLagNanos = maxLag.toNanos();
+		this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "employee-change-feed");
+			thread.setDaemon(true);
+			return thread;
+		});
+		AtomicInteger senderCount = new AtomicInteger();
+		this.sender = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "employee-change-feed-sender-" + senderCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Devuelve los cambios posteriores al cursor.
+	 * @param since Cursor {@code next} de la petición anterior, null para empezar desde el primer cambio
+	 * @param size Número máximo de cambios
+	 * @throws IllegalArgumentException si el cursor no es válido o el tamaño está fuera de rango
+	 */
+	public ChangeFeedDTO findChanges(String since, int size) {
+		if (size < 1 || size > maxSize) {
+			throw new IllegalArgumentException("Size must be between 1 and " + maxSize);
+		}
+		ChangeCursor cursor = ChangeCursor.decode(since);
+		List<EmployeeChangeDTO> changes = changeRepository.findChanges(cursor, size);
+		String next = changes.isEmpty() ? cursor.encode() : changes.get(changes.size() - 1).getCursor();
+		return new ChangeFeedDTO(changes, next, changes.size() == size);
+	}
+
+	/**
+	 * Suscribe un cliente a los cambios posteriores al cursor. Los cambios pendientes se envían de inmediato.
+	 * @param since Cursor desde el que continuar, null para empezar desde el primer cambio
+	 * @throws IllegalArgumentException si el cursor no es válido
+	 * @throws CapacityExceededException si se alcanzó {@code employee.changes.stream.max-subscribers}
+	 */
+	public SseEmitter subscribe(String since) {
+		ChangeCursor cursor = ChangeCursor.decode(since);
+		if (!running || subscriptions.size() >= maxSubscribers) {
+			throw new CapacityExceededException("Too many change feed subscribers, try again later");
+		}
+		SseEmitter emitter = createEmitter(streamTimeoutMillis);
+		Subscription subscription = new Subscription(emitter, cursor);
+		emitter.onCompletion(() -> subscriptions.remove(subscription));
+		emitter.onTimeout(() -> {
+			subscriptions.remove(subscription);
+			emitter.complete();
+		});
+		emitter.onError(error -> subscriptions.remove(subscription));
+		subscriptions.add(subscription);
+		poller.execute(this::poll);
+		return emitter;
+	}
+
+	SseEmitter createEmitter(long timeoutMillis) {
+		return new SseEmitter(timeoutMillis);
+	}
+
+	int getSubscriberCount() {
+		return subscriptions.size();
+	}
+
+	/**
+	 * Encola para cada suscriptor con la cola vacía los cambios posteriores a su cursor, y desconecta a los que
+	 * tienen cambios pendientes desde hace más de {@code employee.changes.stream.max-lag}. Solo se ejecuta en
+	 * el hilo del feed y nunca espera a un suscriptor.
+	 */
+	void poll() {
+		if (subscriptions.isEmpty()) {
+			return;
+		}
+		long now = System.nanoTime();
+		Map<ChangeCursor, List<Subscription>> byCursor = new LinkedHashMap<>();
+		for (Subscription subscription : subscriptions) {
+			long pendingSince = subscription.pendingSince();
+			if (pendingSince == 0) {
+				byCursor.computeIfAbsent(subscription.cursor, cursor -> new ArrayList<>()).add(subscription);
+			} else if (now - pendingSince > maxLagNanos) {
+				drop(subscription);
+			}
+		}
+		byCursor.forEach((cursor, waiting) -> {
+			List<EmployeeChangeDTO> changes;
+			try {
+				changes = changeRepository.findChanges(cursor, maxSize);
+			} catch (RuntimeException e) {
+				log.warn("Change feed could not be read: " + ExceptionUtils.getRootCauseMessage(e));
+				return;
+			}
+			if (!changes.isEmpty()) {
+				ChangeCursor next = ChangeCursor.decode(changes.get(changes.size() - 1).getCursor());
+				waiting.forEach(subscription -> {
+					subscription.enqueue(changes, next, now);
+					sender.execute(() -> send(subscription));
+				});
+			}
+		});
+	}
+
+	/**
+	 * Envía la cola del suscriptor en un hilo de envío. Hay un solo envío en curso por suscriptor, porque la
+	 * cola solo se llena cuando está vacía y el envío termina al vaciarla.
+	 */
+	private void send(Subscription subscription) {
+		EmployeeChangeDTO change;
+		while ((change = subscription.next()) != null) {
+			try {
+				subscription.emitter.send(SseEmitter.event().id(change.getCursor()).name("change").data(change, MediaType.APPLICATION_JSON));
+			} catch (IOException | IllegalStateException e) {
+				log.debug("Change feed subscriber disconnected: " + ExceptionUtils.getRootCauseMessage(e));
+				subscriptions.remove(subscription);
+				subscription.emitter.completeWithError(e);
+				return;
+			}
+		}
+		if (subscription.dropped) {
+			subscription.close();
+		}
+	}
+
+	/**
+	 * Desconecta a un suscriptor atrasado. El emitter se cierra desde un hilo de envío, cuando termina el
+	 * envío en curso, para no bloquear el hilo del feed.
+	 */
+	private void drop(Subscription subscription) {
+		log.info("Change feed subscriber too slow, disconnecting it at " + subscription.cursor);
+		subscriptions.remove(subscription);
+		if (!subscription.drop()) {
+			sender.execute(subscription::close);
+		}
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		poller.scheduleWithFixedDelay(this::poll, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Cierra las suscripciones antes del apagado ordenado del servidor web, que de otro modo esperaría a que
+	 * terminen.
+	 */
+	@Override
+	public void stop() {
+		running = false;
+		poller.shutdownNow();
+		sender.shutdownNow();
+		subscriptions.forEach(Subscription::close);
+		subscriptions.clear();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Suscriptor con su cola de cambios pendientes. {@code cursor} es el último cambio encolado.
+	 */
+	private static final class Subscription {
+
+		private final SseEmitter emitter;
+		private final Queue<EmployeeChangeDTO> pending = new ArrayDeque<>();
+		private volatile ChangeCursor cursor;
+		private volatile boolean dropped;
+		private final AtomicBoolean closed = new AtomicBoolean();
+		private long pendingSince;
+
+		private Subscription(SseEmitter emitter, ChangeCursor cursor) {
+			this.emitter = emitter;
+			this.cursor = cursor;
+		}
+
+		/**
+		 * @return Momento ({@link System#nanoTime()}) desde el que hay cambios sin enviar, 0 si la cola está vacía
+		 */
+		private synchronized long pendingSince() {
+			return pendingSince;
+		}
+
+		private synchronized void enqueue(List<EmployeeChangeDTO> changes, ChangeCursor next, long now) {
+			pending.addAll(changes);
+			cursor = next;
+			pendingSince = now;
+		}
+
+		/**
+		 * Siguiente cambio a enviar; null si la cola está vacía o el suscriptor fue desconectado.
+		 */
+		private synchronized EmployeeChangeDTO next() {
+			EmployeeChangeDTO change = dropped ? null : pending.poll();
+			if (change == null) {
+				pending.clear();
+				pendingSince = 0;
+			}
+			return change;
+		}
+
+		/**
+		 * @return true si hay un envío en curso, que cerrará el emitter al terminar
+		 */
+		private synchronized boolean drop() {
+			dropped = true;
+			return pendingSince != 0;
+		}
+
+		private void close() {
+			if (closed.compareAndSet(false, true)) {
+				emitter.complete();
+			}
+		}
+	}
+}
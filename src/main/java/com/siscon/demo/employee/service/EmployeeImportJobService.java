@@ -0,0 +1,152 @@
+package com.siscon.demo.employee.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.siscon.demo.employee.exception.CapacityExceededException;
+import com.siscon.demo.employee.exception.ResourceNotFoundException;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Importaciones asíncronas de empleados.
+ *
+ * <p>El contenido recibido se copia a un archivo temporal (spool) y la importación se encola en un
+ * executor propio, de tamaño y cola acotados ({@code employee.jobs.*}), independiente de los hilos que
+ * atienden peticiones. El lugar en el executor se reserva antes de copiar el contenido, de modo que una
+ * importación rechazada no llega a escribirse en disco. Cada importación se procesa con
+ * {@link EmployeeStreamService}, por lo que usa los mismos bloques y validaciones que {@code /import}.</p>
+ *
+ * <p>El estado de cada importación (totales y los primeros {@code employee.jobs.max-failed-rows} registros con
+ * error) se guarda en memoria en esta instancia; una tarea periódica lo descarta
+ * {@code employee.jobs.retention} después de terminar.</p>
+ */
+@Log4j2
+@Service
+public class EmployeeImportJobService implements DisposableBean {
+
+	private final EmployeeStreamService employeeStreamService;
+	private final ThreadPoolTaskExecutor executor;
+	private final Duration retention;
+	private final int maxFailedRows;
+	private final Semaphore slots;
+	private final ScheduledExecutorService purger;
+	private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+	public EmployeeImportJobService(EmployeeStreamService employeeStreamService,
+			@Value("${employee.jobs.pool-size:2}") int poolSize,
+			@Value("${employee.jobs.queue-capacity:10}") int queueCapacity,
+			@Value("${employee.jobs.retention:1h}") Duration retention,
+			@Value("${employee.jobs.max-failed-rows:1000}") int maxFailedRows,
+			@Value("${employee.jobs.purge-interval:1m}") Duration purgeInterval) {
+		this.employeeStreamService = employeeStreamService;
+		this.retention = retention;
+		this.maxFailedRows = maxFailedRows;
+		this.slots = new Semaphore(poolSize + queueCapacity);
+		this.executor = new ThreadPoolTaskExecutor();
+		this.executor.setCorePoolSize(poolSize);
+		this.executor.setMaxPoolSize(poolSize);
+		this.executor.setQueueCapacity(queueCapacity);
+		this.executor.setThreadNamePrefix("employee-import-");
+		this.executor.initialize();
+		this.purger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "employee-import-purge");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.purger.scheduleWithFixedDelay(this::purgeFinishedJobs, purgeInterval.toMillis(), purgeInterval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Guarda el contenido en un archivo temporal y encola su importación.
+	 * @param in Contenido a importar (NDJSON, arreglo JSON o CSV con encabezado)
+	 * @param csv true si el contenido es CSV
+	 * @return La importación encolada
+	 * @throws CapacityExceededException si la cola de importaciones está llena; el contenido no se lee
+	 * @throws IOException si no se puede guardar el contenido
+	 */
+	public ImportJob submit(InputStream in, boolean csv) throws IOException {
+		if (!slots.tryAcquire()) {
+			throw new CapacityExceededException("Too many imports in progress, try again later");
+		}
+		Path spool = null;
+		ImportJob job = new ImportJob(maxFailedRows);
+		try {
+			spool = Files.createTempFile("employee-import-", csv ? ".csv" : ".json");
+			Files.copy(in, spool, StandardCopyOption.REPLACE_EXISTING);
+			jobs.put(job.getId(), job);
+			Path file = spool;
+			executor.execute(() -> run(job, file, csv));
+		} catch (IOException | RuntimeException e) {
+			slots.release();
+			jobs.remove(job.getId());
+			if (spool != null) {
+				Files.deleteIfExists(spool);
+			}
+			if (e instanceof TaskRejectedException) {
+				throw new CapacityExceededException("Too many imports in progress, try again later");
+			}
+			throw e;
+		}
+		return job;
+	}
+
+	/**
+	 * @throws ResourceNotFoundException si la importación no existe o ya fue descartada
+	 */
+	public ImportJob find(UUID id) {
+		ImportJob job = jobs.get(id);
+		if (job == null) {
+			throw new ResourceNotFoundException("Import job not found: " + id);
+		}
+		return job;
+	}
+
+	private void run(ImportJob job, Path spool, boolean csv) {
+		job.start();
+		try (InputStream in = Files.newInputStream(spool)) {
+			employeeStreamService.importRecords(in, csv, job::addResults);
+			job.complete();
+		} catch (IOException | RuntimeException e) {
+			log.error("Import job " + job.getId() + " failed: " + ExceptionUtils.getRootCause(e));
+			job.fail(ExceptionUtils.getRootCauseMessage(e));
+		} finally {
+			slots.release();
+			try {
+				Files.deleteIfExists(spool);
+			} catch (IOException e) {
+				log.warn("Spool file could not be deleted: " + spool);
+			}
+		}
+	}
+
+	private void purgeFinishedJobs() {
+		LocalDateTime limit = LocalDateTime.now().minus(retention);
+		jobs.values().removeIf(job -> job.isFinishedBefore(limit));
+	}
+
+	@Override
+	public void destroy() {
+		purger.shutdownNow();
+		executor.shutdown();
+	}
+}
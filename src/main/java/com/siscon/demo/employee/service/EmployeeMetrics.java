@@ -0,0 +1,81 @@
+package com.siscon.demo.employee.service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.siscon.demo.employee.dto.EmployeeResultDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Métricas propias de la importación de empleados.
+ *
+ * <ul>
+ *   <li>{@code employee.import.rows}: filas procesadas por modo de importación ({@code mode}) y resultado
+ *       ({@code outcome}: {@code saved} para código 200, {@code failed} para código 500)</li>
+ *   <li>{@code employee.duplicate.check}: tiempo de las consultas de DNI existentes, por {@code mode}
+ *       ({@code single} o {@code batch})</li>
+ *   <li>{@code employee.outbox.published}: eventos publicados desde el outbox</li>
+ * </ul>
+ */
+@Component
+public class EmployeeMetrics {
+
+	public static final String MODE_ROW = "row";
+	public static final String MODE_BATCH = "batch";
+	public static final String MODE_PARALLEL = "parallel";
+	public static final String MODE_BULK_LOAD = "bulk_load";
+	public static final String MODE_UPSERT = "upsert";
+
+	private final MeterRegistry registry;
+	private final Timer singleDuplicateCheck;
+	private final Timer batchDuplicateCheck;
+	private final Counter outboxPublished;
+
+	public EmployeeMetrics(MeterRegistry registry) {
+		this.registry = registry;
+		this.singleDuplicateCheck = duplicateCheckTimer("single");
+		this.batchDuplicateCheck = duplicateCheckTimer("batch");
+		this.outboxPublished = Counter.builder("employee.outbox.published")
+				.description("Employee events published from the outbox")
+				.register(registry);
+	}
+
+	/**
+	 * Cuenta las filas guardadas y con error de una importación.
+	 * @return Los mismos resultados recibidos
+	 */
+	public List<EmployeeResultDTO> recordImport(String mode, List<EmployeeResultDTO> results) {
+		long saved = results.stream().filter(result -> result != null && result.getCode() == 200).count();
+		rows(mode, "saved").increment(saved);
+		rows(mode, "failed").increment(results.size() - saved);
+		return results;
+	}
+
+	public <T> T timeDuplicateCheck(boolean batch, Supplier<T> check) {
+		return (batch ? batchDuplicateCheck : singleDuplicateCheck).record(check);
+	}
+
+	public void recordOutboxPublished(int events) {
+		outboxPublished.increment(events);
+	}
+
+	private Counter rows(String mode, String outcome) {
+		return Counter.builder("employee.import.rows")
+				.description("Rows processed by employee imports")
+				.tag("mode", mode)
+				.tag("outcome", outcome)
+				.register(registry);
+	}
+
+	private Timer duplicateCheckTimer(String mode) {
+		return Timer.builder("employee.duplicate.check")
+				.description("Queries looking for existing DNIs")
+				.tag("mode", mode)
+				.register(registry);
+	}
+}
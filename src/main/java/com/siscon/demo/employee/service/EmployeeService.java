@@ -1,19 +1,38 @@
 package com.siscon.demo.employee.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import com.siscon.demo.employee.dto.BulkResultDTO;
 import com.siscon.demo.employee.dto.EmployeeResultDTO;
+import com.siscon.demo.employee.dto.UpsertResultDTO;
 import com.siscon.demo.employee.entity.Employee;
 
 public interface EmployeeService {
     Employee save(Employee entity);
+    Employee findById(UUID id);
+    Employee findByDni(String dni);
+    Map<UUID, Employee> findAllById(List<UUID> ids);
+    Map<String, Employee> findAllByDni(List<String> dnis);
     
     Page<Employee> findAll(Pageable pageable);
+    Page<Map<String, Object>> findAll(List<String> fields, Pageable pageable);
+    Window<Employee> findAll(KeysetScrollPosition position, Sort sort, int size);
     void delete(UUID id);
+    List<BulkResultDTO> deleteAll(List<UUID> ids, String position);
+    List<BulkResultDTO> restoreAll(List<UUID> ids, String position);
     Employee update(Employee entity);
+    Optional<Employee> patch(UUID id, Map<String, Object> changes, boolean returning);
     List<EmployeeResultDTO> save(List<Employee> employees);
+    List<EmployeeResultDTO> saveParallel(List<Employee> employees);
+    List<EmployeeResultDTO> bulkLoad(List<Employee> employees);
+    UpsertResultDTO upsert(List<Employee> employees);
 }
@@ -2,13 +2,30 @@ package com.siscon.demo.employee.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -16,24 +33,57 @@ import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 
+import com.google.common.collect.Lists;
+import com.siscon.demo.employee.cache.DniMembershipFilter;
+import com.siscon.demo.employee.cache.EmployeeCache;
+import com.siscon.demo.employee.cache.EmployeeInvalidationBus;
+import com.siscon.demo.employee.dto.BulkResultDTO;
 import com.siscon.demo.employee.dto.EmployeeResultDTO;
+import com.siscon.demo.employee.dto.UpsertResultDTO;
 import com.siscon.demo.employee.entity.Employee;
 import com.siscon.demo.employee.exception.DuplicateResourceException;
 import com.siscon.demo.employee.exception.ResourceNotFoundException;
 import com.siscon.demo.employee.exception.ServiceException;
+import com.siscon.demo.employee.repository.EmployeeCopyRepository;
+import com.siscon.demo.employee.repository.EmployeeJdbcRepository;
 import com.siscon.demo.employee.repository.EmployeeRepository;
+import com.siscon.demo.employee.utility.EmployeeIdGenerator;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 @Service
+@Timed("employee.service")
 @RequiredArgsConstructor
 public class EmployeeServiceImpl implements EmployeeService {
 	
+	private static final int LOOKUP_CHUNK_SIZE = 1000;
+	
 	private final EmployeeRepository employeeRepository;
 	private final PlatformTransactionManager transactionManager;
+	private final EmployeeJdbcRepository employeeJdbcRepository;
+	private final EmployeeCopyRepository employeeCopyRepository;
+	private final Validator validator;
+	private final EmployeeCache employeeCache;
+	private final EmployeeInvalidationBus invalidationBus;
+	private final DniMembershipFilter dniFilter;
+	private final ImportExecutor importExecutor;
+	private final EmployeeMetrics employeeMetrics;
+	
+	@Value("${employee.import.batch-size:500}")
+	private int batchSize;
+	
+	@Value("${employee.bulk.max-ids:10000}")
+	private int bulkMaxIds;
+	
+	@Value("${employee.lookup.max-keys:1000}")
+	private int lookupMaxKeys;
 	
 	/**
 	 * Crea un nuevo registro de empleado en el sistema.
@@ -77,7 +127,134 @@ public class EmployeeServiceImpl implements EmployeeService {
 	        throw new IllegalArgumentException("Cannot save an employee with predefined ID, for updates, use the update method instead.");
 	    }
 	    checkForDuplicates(entity);
-		return employeeRepository.save(entity);		
+	    Employee employee = employeeRepository.save(entity);
+	    employeeCache.putAfterCommit(employee);
+	    dniFilter.put(employee.getDni());
+		return employee;
+	}
+	
+	/**
+	 * Recupera un empleado activo por su identificador.
+	 * 
+	 * <p>La consulta se resuelve primero en {@link EmployeeCache}; solo si el empleado no está en caché
+	 * se consulta la base de datos y el resultado se guarda en la caché para las siguientes lecturas, salvo que
+	 * el empleado se haya modificado o invalidado durante la consulta.</p>
+	 *
+	 * @param id Identificador único (UUID) del empleado
+	 * @return El empleado activo con el id indicado
+	 * @throws ResourceNotFoundException si no existe un empleado activo con el id indicado
+	 * @throws IllegalArgumentException si el ID es null
+	 */
+	@Override
+	public Employee findById(UUID id) {
+		if (id == null) {
+	        throw new IllegalArgumentException("Employee ID cannot be null");
+	    }
+		return employeeCache.getById(id).orElseGet(() -> {
+			long generation = employeeCache.generation();
+			Employee employee = employeeRepository.findByIdAndActiveTrue(id).orElseThrow(() -> new ResourceNotFoundException("Employee not found: " + id));
+			employeeCache.putIfCurrent(employee, generation);
+			return employee;
+		});
+	}
+	
+	/**
+	 * Recupera un empleado activo por su DNI, sin distinguir mayúsculas y minúsculas.
+	 * 
+	 * <p>Al igual que {@link #findById(UUID)}, se resuelve primero en {@link EmployeeCache}.</p>
+	 *
+	 * @param dni DNI del empleado
+	 * @return El empleado activo con el DNI indicado
+	 * @throws ResourceNotFoundException si no existe un empleado activo con el DNI indicado
+	 * @throws IllegalArgumentException si el DNI es null
+	 */
+	@Override
+	public Employee findByDni(String dni) {
+		if (dni == null) {
+	        throw new IllegalArgumentException("Employee DNI cannot be null");
+	    }
+		Optional<Employee> cached = employeeCache.getIdByDni(dni)
+				.flatMap(employeeCache::getById)
+				.filter(employee -> EmployeeCache.normalize(employee.getDni()).equals(EmployeeCache.normalize(dni)));
+		return cached.orElseGet(() -> {
+			long generation = employeeCache.generation();
+			Employee employee = employeeRepository.findByDniNormalizedAndActiveTrue(Employee.normalizeDni(dni)).orElseThrow(() -> new ResourceNotFoundException("Employee not found: " + dni));
+			employeeCache.putIfCurrent(employee, generation);
+			return employee;
+		});
+	}
+	
+	/**
+	 * Recupera varios empleados activos por sus ids.
+	 * 
+	 * <p>Los ids se buscan primero en {@link EmployeeCache}; los que no están se consultan en la base de datos
+	 * con {@code IN}, en bloques de {@value #LOOKUP_CHUNK_SIZE}. Los empleados consultados no se agregan a la
+	 * caché para no desplazar a los que se leen con frecuencia.</p>
+	 *
+	 * @param ids Ids a buscar, hasta {@code employee.lookup.max-keys}
+	 * @return Mapa con cada id recibido (sin repetir, en el orden recibido) y su empleado, o null si no
+	 *         existe un empleado activo con ese id
+	 * @throws IllegalArgumentException si la lista es null, contiene ids null o excede el máximo permitido
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public Map<UUID, Employee> findAllById(List<UUID> ids) {
+		checkLookupKeys(ids);
+		Map<UUID, Employee> result = new LinkedHashMap<>();
+		List<UUID> misses = new ArrayList<>();
+		for (UUID id : ids) {
+			if (!result.containsKey(id)) {
+				Employee cached = employeeCache.getById(id).orElse(null);
+				result.put(id, cached);
+				if (cached == null) {
+					misses.add(id);
+				}
+			}
+		}
+		for (List<UUID> chunk : Lists.partition(misses, LOOKUP_CHUNK_SIZE)) {
+			employeeRepository.findByIdInAndActiveTrue(chunk).forEach(employee -> result.put(employee.getId(), employee));
+		}
+		return result;
+	}
+	
+	/**
+	 * Recupera varios empleados activos por sus DNI, sin distinguir mayúsculas y minúsculas.
+	 * 
+	 * <p>Se resuelve igual que {@link #findAllById(List)}, buscando por el DNI normalizado.</p>
+	 *
+	 * @param dnis DNI a buscar, hasta {@code employee.lookup.max-keys}
+	 * @return Mapa con cada DNI tal como se recibió (sin repetir, en el orden recibido) y su empleado, o null
+	 *         si no existe un empleado activo con ese DNI
+	 * @throws IllegalArgumentException si la lista es null, contiene DNI null o excede el máximo permitido
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public Map<String, Employee> findAllByDni(List<String> dnis) {
+		checkLookupKeys(dnis);
+		Map<String, Employee> result = new LinkedHashMap<>();
+		Map<String, List<String>> keysByDni = new LinkedHashMap<>();
+		for (String dni : dnis) {
+			if (!result.containsKey(dni)) {
+				result.put(dni, null);
+				keysByDni.computeIfAbsent(Employee.normalizeDni(dni), normalized -> new ArrayList<>()).add(dni);
+			}
+		}
+		List<String> misses = new ArrayList<>();
+		keysByDni.forEach((normalized, keys) -> {
+			Optional<Employee> cached = employeeCache.getIdByDni(normalized)
+					.flatMap(employeeCache::getById)
+					.filter(employee -> EmployeeCache.normalize(employee.getDni()).equals(normalized));
+			if (cached.isPresent()) {
+				keys.forEach(key -> result.put(key, cached.get()));
+			} else {
+				misses.add(normalized);
+			}
+		});
+		for (List<String> chunk : Lists.partition(misses, LOOKUP_CHUNK_SIZE)) {
+			employeeRepository.findByDniNormalizedInAndActiveTrue(chunk)
+				.forEach(employee -> keysByDni.get(employee.getDniNormalized()).forEach(key -> result.put(key, employee)));
+		}
+		return result;
 	}
 	
 	/**
@@ -112,6 +289,63 @@ public class EmployeeServiceImpl implements EmployeeService {
 	    }
 		return employeeRepository.findAll(pageable);
 	}
+	
+	/**
+	 * Recupera los empleados con paginación, seleccionando únicamente los campos indicados.
+	 * 
+	 * <p>Solo se consultan las columnas solicitadas y el resultado no se registra en el contexto de
+	 * persistencia, lo que reduce la transferencia desde la base de datos, la memoria y el tamaño del JSON.</p>
+	 * 
+	 * <p><strong>Ejemplo de uso:</strong></p>
+	 * <pre>
+	 *     Page&lt;Map&lt;String, Object&gt;&gt; page = employeeService.findAll(List.of("id", "name", "dni"), PageRequest.of(0, 10));
+	 * </pre>
+	 *
+	 * @param fields Campos de Employee a devolver, en el orden indicado
+	 * @param pageable Objeto que contiene la información de paginación y ordenamiento
+	 * @return Página de mapas campo/valor
+	 * @throws IllegalArgumentException si el parámetro pageable es null, no se indican campos o alguno no existe
+	 * @see com.siscon.demo.employee.repository.EmployeeRepositoryCustomImpl#PROJECTABLE_FIELDS
+	 */
+	@Override
+	public Page<Map<String, Object>> findAll(List<String> fields, Pageable pageable) {
+		if (pageable == null) {
+	        throw new IllegalArgumentException("Pageable parameter cannot be null");
+	    }
+		return employeeRepository.findAllFields(fields, pageable);
+	}
+	
+	/**
+	 * Recupera una página de empleados usando paginación por keyset (cursor).
+	 * 
+	 * <p>A diferencia de {@link #findAll(Pageable)}, la consulta no usa OFFSET: busca directamente las
+	 * filas posteriores a los valores de la última fila de la página anterior, apoyándose en el índice
+	 * del campo de ordenamiento. Tampoco ejecuta la consulta COUNT, por lo que la latencia es la misma
+	 * sin importar la profundidad de la página.</p>
+	 * 
+	 * <p><strong>Ejemplo de uso:</strong></p>
+	 * <pre>
+	 *     KeysetCursor cursor = KeysetCursor.first("name", Direction.ASC);
+	 *     Window&lt;Employee&gt; window = employeeService.findAll(cursor.getPosition(), cursor.getSort(), 10);
+	 * </pre>
+	 *
+	 * @param position Posición keyset desde la que se continúa; {@code ScrollPosition.keyset()} para la primera página
+	 * @param sort Ordenamiento, debe terminar con el id como desempate
+	 * @param size Cantidad de elementos por página
+	 * @return Ventana con los empleados y la posición de cada uno
+	 * @throws IllegalArgumentException si algún parámetro es null o el tamaño no es positivo
+	 * @see com.siscon.demo.employee.utility.KeysetCursor
+	 */
+	@Override
+	public Window<Employee> findAll(KeysetScrollPosition position, Sort sort, int size) {
+		if (position == null || sort == null) {
+	        throw new IllegalArgumentException("Position and sort parameters cannot be null");
+	    }
+		if (size < 1) {
+	        throw new IllegalArgumentException("Page size must be greater than zero");
+	    }
+		return employeeRepository.findBy(position, sort, Limit.of(size));
+	}
 
 	/**
 	 * Realiza una eliminación lógica (soft delete) de un empleado en el sistema.
@@ -159,8 +393,41 @@ public class EmployeeServiceImpl implements EmployeeService {
 		employee.setDeletedAt(LocalDateTime.now());
 		employee.setActive(false);
 		employeeRepository.save(employee);
+		employeeCache.evictAfterCommit(id);
+		invalidationBus.publish(List.of(id));
 	}
 	
+	/**
+	 * Desactiva (borrado lógico) varios empleados con una sola sentencia UPDATE.
+	 * 
+	 * <p>Se indica una lista de ids o un puesto, no ambos. Con ids, el resultado contiene cada id
+	 * solicitado (sin repetir) con su estado: {@code DELETED}, {@code ALREADY_DELETED} o {@code NOT_FOUND},
+	 * obtenido de la misma sentencia sin consultas adicionales. Con un puesto, contiene los empleados
+	 * desactivados.</p>
+	 *
+	 * @param ids Ids de los empleados, hasta {@code employee.bulk.max-ids}
+	 * @param position Puesto de los empleados a desactivar
+	 * @return Resultado por empleado, en el orden de los ids recibidos
+	 * @throws IllegalArgumentException si no se indica exactamente uno de los criterios, si la lista
+	 *         contiene ids null o excede el máximo permitido
+	 */
+	@Transactional
+	@Override
+	public List<BulkResultDTO> deleteAll(List<UUID> ids, String position) {
+		return setActive(ids, position, false);
+	}
+	
+	/**
+	 * Reactiva varios empleados con una sola sentencia UPDATE, limpiando su fecha de borrado.
+	 * Funciona igual que {@link #deleteAll(List, String)}, con los estados {@code RESTORED},
+	 * {@code ALREADY_ACTIVE} o {@code NOT_FOUND}.
+	 */
+	@Transactional
+	@Override
+	public List<BulkResultDTO> restoreAll(List<UUID> ids, String position) {
+		return setActive(ids, position, true);
+	}
+
 	/**
 	 * Actualiza la información de un empleado existente en el sistema.
 	 * 
@@ -179,7 +446,8 @@ public class EmployeeServiceImpl implements EmployeeService {
 	 * 
 	 * <p><strong>Campos actualizables:</strong> nombre, apellido, correo electrónico, 
 	 * posición, salario, departamento, etc. Los campos de auditoría como 'createdAt', 
-	 * 'createdBy', 'deletedAt' y 'deletedBy' no se actualizan a través de este método.</p>
+	 * 'createdBy', 'deletedAt' y 'deletedBy' no se actualizan a través de este método. El estado
+	 * activo tampoco: para desactivar un empleado se usa {@link #delete(UUID)}.</p>
 	 * 
 	 * <p><strong>Ejemplo de uso:</strong></p>
 	 * <pre>
@@ -219,6 +487,9 @@ public class EmployeeServiceImpl implements EmployeeService {
 			employee.setUpdatedAt(LocalDateTime.now());
 			updateEmployeeFields(employee, entity);
 			employee = employeeRepository.save(employee);
+			employeeCache.putAfterCommit(employee);
+			dniFilter.put(employee.getDni());
+			invalidationBus.publish(List.of(employee.getId()));
 	    } catch(Exception e) {
 	    	log.error("Error to update employee: " + ExceptionUtils.getRootCause(e));
 	    	throw new ServiceException("Error to update employee", e);
@@ -227,12 +498,67 @@ public class EmployeeServiceImpl implements EmployeeService {
 	}
 
 	/**
-	 * Guarda múltiples empleados en el sistema, procesando cada uno en una transacción independiente.
+	 * Actualiza parcialmente un empleado activo con una sola sentencia UPDATE.
+	 * 
+	 * <p>A diferencia de {@link #update(Employee)}, no lee el empleado antes de modificarlo ni reescribe
+	 * todas sus columnas: solo se actualizan los campos recibidos, junto con la fecha de modificación.
+	 * La existencia del empleado se determina por el número de registros afectados.</p>
+	 * 
+	 * <p>No se verifica el DNI antes de actualizar; si ya pertenece a otro empleado, el índice único
+	 * rechaza la sentencia con {@link DataIntegrityViolationException}.</p>
+	 *
+	 * @param id Id del empleado a actualizar
+	 * @param changes Valores nuevos por campo, solo los campos de
+	 *        {@link EmployeeJdbcRepository#UPDATABLE_FIELDS}
+	 * @param returning true para devolver el empleado actualizado (con {@code RETURNING}, sin otra consulta)
+	 * @return El empleado actualizado si {@code returning} es true, vacío en otro caso
+	 * @throws IllegalArgumentException si el id es null, no hay cambios o algún campo no se puede actualizar
+	 * @throws ResourceNotFoundException si no existe un empleado activo con el id
+	 * @throws DataIntegrityViolationException si los nuevos datos violan restricciones de integridad
+	 */
+	@Transactional
+	@Override
+	public Optional<Employee> patch(UUID id, Map<String, Object> changes, boolean returning) {
+		if (id == null) {
+	        throw new IllegalArgumentException("Employee ID cannot be null for update operation");
+	    }
+		if (changes == null || changes.isEmpty()) {
+			throw new IllegalArgumentException("No fields to update");
+		}
+		Optional<Employee> employee = Optional.empty();
+		if (returning) {
+			employee = employeeJdbcRepository.updateReturning(id, changes);
+			if (employee.isEmpty()) {
+				throw new ResourceNotFoundException("Employee not found: " + id);
+			}
+			employeeCache.putAfterCommit(employee.get());
+		} else {
+			if (employeeJdbcRepository.update(id, changes) == 0) {
+				throw new ResourceNotFoundException("Employee not found: " + id);
+			}
+			employeeCache.evictAfterCommit(id);
+		}
+		if (changes.get("dni") instanceof String dni) {
+			dniFilter.put(dni);
+		}
+		invalidationBus.publish(List.of(id));
+		return employee;
+	}
+
+	/**
+	 * Guarda múltiples empleados en el sistema, procesando cada uno de manera independiente.
 	 * 
 	 * <p>Este método permite realizar operaciones de creación masiva de empleados, donde cada empleado
 	 * se procesa individualmente y de manera independiente. Esto significa que si uno o más empleados
 	 * no pueden ser guardados debido a errores de validación, duplicados u otras excepciones, el resto
 	 * de los empleados válidos se guardarán correctamente.</p>
+	 * 
+	 * <p>Los empleados creados no se agregan a {@link EmployeeCache}: son registros nuevos que no pueden estar
+	 * en caché, y cargarlos desplazaría a los empleados consultados con frecuencia.</p>
+	 * 
+	 * <p>Los empleados se procesan en bloques de {@code employee.import.batch-size} registros: una consulta
+	 * de duplicados y un batch de inserción por bloque (ver {@link #saveChunk(List)}). Con un tamaño
+	 * menor o igual a 1 se usa el proceso original de una transacción por registro.</p>
 	 *
 	 * @param employees Lista de entidades Employee a guardar. Cada entidad debe contener todos los campos
 	 *                 requeridos para crear un nuevo empleado.
@@ -255,6 +581,200 @@ public class EmployeeServiceImpl implements EmployeeService {
 		if (employees.isEmpty()) {
 	        return new ArrayList<>();
 		}
+		if (batchSize <= 1) {
+			return employeeMetrics.recordImport(EmployeeMetrics.MODE_ROW, saveRowByRow(employees));
+		}
+		List<EmployeeResultDTO> resultDTO = new ArrayList<>(employees.size());
+		for (int from = 0; from < employees.size(); from += batchSize) {
+			resultDTO.addAll(saveChunk(employees.subList(from, Math.min(from + batchSize, employees.size()))));
+		}
+		return employeeMetrics.recordImport(EmployeeMetrics.MODE_BATCH, resultDTO);
+	}
+	
+	/**
+	 * Igual que {@link #save(List)}, pero procesa los bloques en paralelo con {@link ImportExecutor}.
+	 * 
+	 * <p>Cada bloque se guarda en su propia transacción y conexión. Antes de repartir los bloques se
+	 * valida cada empleado y se detectan los DNI repetidos entre los válidos: el primero se procesa y los
+	 * siguientes se reportan como duplicados, de modo que dos bloques concurrentes no compitan por el mismo
+	 * DNI y el resultado sea el mismo que el de {@link #save(List)}. Los resultados se devuelven en el mismo
+	 * orden de entrada.</p>
+	 * 
+	 * <p>Si la lista cabe en un bloque, o el paralelismo o el tamaño de bloque es 1, se usa {@link #save(List)}.</p>
+	 *
+	 * @param employees Lista de entidades Employee a guardar
+	 * @return Lista de EmployeeResultDTO con el resultado de cada empleado, en el mismo orden de entrada
+	 * @throws IllegalArgumentException si la lista de empleados es null
+	 */
+	@Override
+	public List<EmployeeResultDTO> saveParallel(List<Employee> employees) {
+		if (employees == null) {
+	        throw new IllegalArgumentException("Employee list cannot be null");
+	    }
+		if (batchSize <= 1 || importExecutor.getParallelism() <= 1 || employees.size() <= batchSize) {
+			return save(employees);
+		}
+		EmployeeResultDTO[] results = new EmployeeResultDTO[employees.size()];
+		Set<String> dnis = new HashSet<>();
+		List<Employee> candidates = new ArrayList<>(employees.size());
+		List<Integer> positions = new ArrayList<>(employees.size());
+		for (int i = 0; i < employees.size(); i++) {
+			Employee employee = employees.get(i);
+			try {
+				validate(employee);
+				if (!dnis.add(Employee.normalizeDni(employee.getDni()))) {
+					throw duplicateException(employee);
+				}
+				candidates.add(employee);
+				positions.add(i);
+			} catch (Exception e) {
+				log.error("Error to save list of employees: " + ExceptionUtils.getRootCause(e));
+				results[i] = new EmployeeResultDTO(employee == null ? null : employee.getDni(), null, 500, ExceptionUtils.getRootCauseMessage(e));
+			}
+		}
+		List<CompletableFuture<List<EmployeeResultDTO>>> chunks = new ArrayList<>();
+		for (int from = 0; from < candidates.size(); from += batchSize) {
+			List<Employee> chunk = candidates.subList(from, Math.min(from + batchSize, candidates.size()));
+			chunks.add(importExecutor.submit(() -> saveChunk(chunk)));
+		}
+		int next = 0;
+		for (int c = 0; c < chunks.size(); c++) {
+			List<Employee> chunk = candidates.subList(c * batchSize, Math.min((c + 1) * batchSize, candidates.size()));
+			List<EmployeeResultDTO> chunkResults;
+			try {
+				chunkResults = chunks.get(c).join();
+			} catch (CompletionException e) {
+				log.error("Error to save list of employees: " + ExceptionUtils.getRootCause(e));
+				chunkResults = new ArrayList<>(chunk.size());
+				for (Employee employee : chunk) {
+					chunkResults.add(new EmployeeResultDTO(employee == null ? null : employee.getDni(), null, 500, ExceptionUtils.getRootCauseMessage(e)));
+				}
+			}
+			for (EmployeeResultDTO result : chunkResults) {
+				results[positions.get(next++)] = result;
+			}
+		}
+		return employeeMetrics.recordImport(EmployeeMetrics.MODE_PARALLEL, Arrays.asList(results));
+	}
+	
+	/**
+	 * Carga masiva de empleados usando el protocolo COPY de PostgreSQL.
+	 * 
+	 * <p>Pensado para cargas de millones de registros: los empleados válidos se envían a una tabla
+	 * temporal de staging y se insertan en la tabla de empleados con una sola sentencia. Los empleados
+	 * cuyo DNI ya existe (o está repetido dentro de la carga) se reportan con código 500, igual que en
+	 * {@link #save(List)}. Cada llamada se ejecuta en una única transacción; las cargas grandes llegan por
+	 * bloques desde {@link EmployeeStreamService#bulkLoadRecords(java.io.InputStream, boolean)}.</p>
+	 *
+	 * @param employees Lista de entidades Employee a cargar
+	 * @return Lista de EmployeeResultDTO con el resultado de cada empleado, en el mismo orden de entrada
+	 * @throws IllegalArgumentException si la lista de empleados es null
+	 * @see EmployeeCopyRepository
+	 */
+	@Transactional
+	@Override
+	public List<EmployeeResultDTO> bulkLoad(List<Employee> employees) {
+		if (employees == null) {
+	        throw new IllegalArgumentException("Employee list cannot be null");
+	    }
+		EmployeeResultDTO[] results = new EmployeeResultDTO[employees.size()];
+		List<Employee> rows = new ArrayList<>(employees.size());
+		List<Integer> positions = new ArrayList<>(employees.size());
+		for (int i = 0; i < employees.size(); i++) {
+			Employee employee = employees.get(i);
+			try {
+				validate(employee);
+				employee.setId(EmployeeIdGenerator.next());
+				rows.add(employee);
+				positions.add(i);
+			} catch (Exception e) {
+				results[i] = new EmployeeResultDTO(employee == null ? null : employee.getDni(), null, 500, ExceptionUtils.getRootCauseMessage(e));
+			}
+		}
+		if (!rows.isEmpty()) {
+			boolean[] inserted = employeeCopyRepository.copyAndMerge(rows);
+			for (int i = 0; i < rows.size(); i++) {
+				Employee employee = rows.get(i);
+				if (inserted[i]) {
+					dniFilter.put(employee.getDni());
+					results[positions.get(i)] = new EmployeeResultDTO(employee.getDni(), employee.getId(), 200, "OK");
+				} else {
+					employee.setId(null);
+					results[positions.get(i)] = new EmployeeResultDTO(employee.getDni(), null, 500, 
+							ExceptionUtils.getRootCauseMessage(duplicateException(employee)));
+				}
+			}
+		}
+		return employeeMetrics.recordImport(EmployeeMetrics.MODE_BULK_LOAD, Arrays.asList(results));
+	}
+	
+	/**
+	 * Sincroniza empleados por DNI: inserta los nuevos y actualiza los existentes que cambiaron.
+	 * 
+	 * <p>Pensado para la sincronización periódica con el sistema de RRHH, donde la mayoría de los
+	 * empleados no cambia: cada bloque de {@code employee.import.batch-size} empleados se resuelve con una
+	 * sola sentencia ({@link EmployeeJdbcRepository#upsertAll(List)}) en su propia transacción, y los
+	 * empleados sin cambios no se escriben. Las actualizaciones incluyen el estado activo, por lo que un
+	 * empleado inactivo en la fuente se desactiva (borrado lógico) y uno activo se reactiva.</p>
+	 * 
+	 * <p>Los empleados inválidos o con un DNI repetido dentro de la lista (gana el primero) se reportan
+	 * con código 500, igual que en {@link #save(List)}; si falla un bloque, todos sus empleados se reportan
+	 * con el error.</p>
+	 *
+	 * @param employees Lista de entidades Employee a sincronizar, sin id
+	 * @return Totales por resultado y el resultado de cada empleado, en el mismo orden de entrada
+	 * @throws IllegalArgumentException si la lista de empleados es null
+	 */
+	@Override
+	public UpsertResultDTO upsert(List<Employee> employees) {
+		if (employees == null) {
+	        throw new IllegalArgumentException("Employee list cannot be null");
+	    }
+		EmployeeResultDTO[] results = new EmployeeResultDTO[employees.size()];
+		Set<String> dnis = new HashSet<>();
+		List<Employee> candidates = new ArrayList<>(employees.size());
+		List<Integer> positions = new ArrayList<>(employees.size());
+		for (int i = 0; i < employees.size(); i++) {
+			Employee employee = employees.get(i);
+			try {
+				validate(employee);
+				if (!dnis.add(Employee.normalizeDni(employee.getDni()))) {
+					throw duplicateException(employee);
+				}
+				employee.setId(EmployeeIdGenerator.next());
+				candidates.add(employee);
+				positions.add(i);
+			} catch (Exception e) {
+				results[i] = new EmployeeResultDTO(employee == null ? null : employee.getDni(), null, 500, ExceptionUtils.getRootCauseMessage(e));
+			}
+		}
+		int chunkSize = Math.max(batchSize, 1);
+		for (int from = 0; from < candidates.size(); from += chunkSize) {
+			List<EmployeeResultDTO> chunkResults = upsertChunk(candidates.subList(from, Math.min(from + chunkSize, candidates.size())));
+			for (int i = 0; i < chunkResults.size(); i++) {
+				results[positions.get(from + i)] = chunkResults.get(i);
+			}
+		}
+		long[] counts = new long[EmployeeJdbcRepository.UpsertOutcome.values().length];
+		long failed = 0;
+		for (EmployeeResultDTO result : results) {
+			if (result.getCode() == 200) {
+				counts[EmployeeJdbcRepository.UpsertOutcome.valueOf(result.getMessage()).ordinal()]++;
+			} else {
+				failed++;
+			}
+		}
+		List<EmployeeResultDTO> resultDTO = employeeMetrics.recordImport(EmployeeMetrics.MODE_UPSERT, Arrays.asList(results));
+		return new UpsertResultDTO(counts[EmployeeJdbcRepository.UpsertOutcome.INSERTED.ordinal()],
+				counts[EmployeeJdbcRepository.UpsertOutcome.UPDATED.ordinal()],
+				counts[EmployeeJdbcRepository.UpsertOutcome.UNCHANGED.ordinal()], failed, resultDTO);
+	}
+	
+	/**
+	 * Guarda cada empleado en su propia transacción (REQUIRES_NEW), verificando duplicados uno a uno.
+	 * Es el comportamiento original, activo cuando {@code employee.import.batch-size} es menor o igual a 1.
+	 */
+	private List<EmployeeResultDTO> saveRowByRow(List<Employee> employees) {
 		DefaultTransactionDefinition txDef = new DefaultTransactionDefinition();
         txDef.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);        
 		List<EmployeeResultDTO> resultDTO = new ArrayList<>();
@@ -275,12 +795,249 @@ public class EmployeeServiceImpl implements EmployeeService {
 		return resultDTO;
 	}
 	
+	/**
+	 * Guarda un bloque de empleados con el mínimo de viajes a la base de datos.
+	 * 
+	 * <p><strong>Proceso:</strong></p>
+	 * <ol>
+	 *   <li>Valida cada empleado con Bean Validation (JDBC no dispara la validación de JPA)</li>
+	 *   <li>Consulta en una sola sentencia los DNI del bloque que ya existen</li>
+	 *   <li>Descarta los DNI repetidos dentro del propio bloque</li>
+	 *   <li>Inserta los válidos con batching de JDBC en una única transacción</li>
+	 *   <li>Si el batch falla (por ejemplo, un DNI insertado concurrentemente), reintenta el bloque
+	 *       registro a registro con savepoints para aislar únicamente las filas con error</li>
+	 * </ol>
+	 * 
+	 * <p>El resultado por registro es el mismo que el del proceso registro a registro.</p>
+	 *
+	 * @param chunk Bloque de empleados a guardar
+	 * @return Resultado de cada empleado, en el mismo orden del bloque
+	 */
+	private List<EmployeeResultDTO> saveChunk(List<Employee> chunk) {
+		EmployeeResultDTO[] results = new EmployeeResultDTO[chunk.size()];
+		Set<String> existingDnis = findExistingDnis(chunk);
+		Set<String> chunkDnis = new HashSet<>();
+		List<Employee> candidates = new ArrayList<>(chunk.size());
+		List<Integer> positions = new ArrayList<>(chunk.size());
+		for (int i = 0; i < chunk.size(); i++) {
+			Employee employee = chunk.get(i);
+			try {
+				validate(employee);
+				String dni = Employee.normalizeDni(employee.getDni());
+				if (existingDnis.contains(dni) || !chunkDnis.add(dni)) {
+					throw duplicateException(employee);
+				}
+				employee.setId(EmployeeIdGenerator.next());
+				candidates.add(employee);
+				positions.add(i);
+			} catch (Exception e) {
+				log.error("Error to save list of employees: " + ExceptionUtils.getRootCause(e));
+				results[i] = new EmployeeResultDTO(employee == null ? null : employee.getDni(), null, 500, ExceptionUtils.getRootCauseMessage(e));
+			}
+		}
+		if (!candidates.isEmpty()) {
+			List<EmployeeResultDTO> inserted = insertBatch(candidates);
+			for (int i = 0; i < positions.size(); i++) {
+				results[positions.get(i)] = inserted.get(i);
+			}
+		}
+		return Arrays.asList(results);
+	}
+	
+	/**
+	 * Sincroniza un bloque en su propia transacción. Los empleados actualizados se eliminan de la caché
+	 * y se notifican al resto de instancias, los insertados se agregan al filtro de DNI.
+	 */
+	private List<EmployeeResultDTO> upsertChunk(List<Employee> chunk) {
+		DefaultTransactionDefinition txDef = new DefaultTransactionDefinition();
+		txDef.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		TransactionStatus txStatus = transactionManager.getTransaction(txDef);
+		List<EmployeeResultDTO> resultDTO = new ArrayList<>(chunk.size());
+		try {
+			EmployeeJdbcRepository.UpsertOutcome[] outcomes = employeeJdbcRepository.upsertAll(chunk);
+			List<UUID> updated = new ArrayList<>();
+			for (int i = 0; i < chunk.size(); i++) {
+				if (outcomes[i] == EmployeeJdbcRepository.UpsertOutcome.UPDATED) {
+					updated.add(chunk.get(i).getId());
+				}
+			}
+			employeeCache.evictAllAfterCommit(updated);
+			invalidationBus.publish(updated);
+			transactionManager.commit(txStatus);
+			for (int i = 0; i < chunk.size(); i++) {
+				Employee employee = chunk.get(i);
+				if (outcomes[i] == EmployeeJdbcRepository.UpsertOutcome.INSERTED) {
+					dniFilter.put(employee.getDni());
+				}
+				resultDTO.add(new EmployeeResultDTO(employee.getDni(), employee.getId(), 200, outcomes[i].name()));
+			}
+		} catch (Exception e) {
+			log.error("Error to upsert list of employees: " + ExceptionUtils.getRootCause(e));
+			if (!txStatus.isCompleted()) {
+				transactionManager.rollback(txStatus);
+			}
+			resultDTO.clear();
+			chunk.forEach(employee -> {
+				employee.setId(null);
+				resultDTO.add(new EmployeeResultDTO(employee.getDni(), null, 500, ExceptionUtils.getRootCauseMessage(e)));
+			});
+		}
+		return resultDTO;
+	}
+	
+	/**
+	 * Inserta los candidatos en un solo batch. Ante cualquier error se deshace el batch completo
+	 * y se procesa de nuevo registro a registro con savepoints.
+	 */
+	private List<EmployeeResultDTO> insertBatch(List<Employee> candidates) {
+		DefaultTransactionDefinition txDef = new DefaultTransactionDefinition();
+		txDef.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		TransactionStatus txStatus = transactionManager.getTransaction(txDef);
+		try {
+			employeeJdbcRepository.insertAll(candidates, batchSize);
+			transactionManager.commit(txStatus);
+			List<EmployeeResultDTO> resultDTO = new ArrayList<>(candidates.size());
+			candidates.forEach(employee -> {
+				dniFilter.put(employee.getDni());
+				resultDTO.add(new EmployeeResultDTO(employee.getDni(), employee.getId(), 200, "OK"));
+			});
+			return resultDTO;
+		} catch (Exception e) {
+			log.warn("Batch insert failed, retrying row by row: " + ExceptionUtils.getRootCause(e));
+			if (!txStatus.isCompleted()) {
+				transactionManager.rollback(txStatus);
+			}
+			return insertWithSavepoints(candidates);
+		}
+	}
+	
+	/**
+	 * Inserta cada candidato con su propio savepoint. Una violación del índice único (DNI insertado
+	 * concurrentemente) se reporta igual que un DNI duplicado detectado antes de insertar.
+	 */
+	private List<EmployeeResultDTO> insertWithSavepoints(List<Employee> candidates) {
+		DefaultTransactionDefinition txDef = new DefaultTransactionDefinition();
+		txDef.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		TransactionStatus txStatus = transactionManager.getTransaction(txDef);
+		List<EmployeeResultDTO> resultDTO = new ArrayList<>(candidates.size());
+		try {
+			for (Employee employee : candidates) {
+				try {
+					employeeJdbcRepository.insertWithSavepoint(employee);
+					dniFilter.put(employee.getDni());
+					resultDTO.add(new EmployeeResultDTO(employee.getDni(), employee.getId(), 200, "OK"));
+				} catch (DataAccessException e) {
+					log.error("Error to save list of employees: " + ExceptionUtils.getRootCause(e));
+					employee.setId(null);
+					resultDTO.add(new EmployeeResultDTO(employee.getDni(), null, 500,
+							ExceptionUtils.getRootCauseMessage(e instanceof DuplicateKeyException ? duplicateException(employee) : e)));
+				}
+			}
+			transactionManager.commit(txStatus);
+		} catch (Exception e) {
+			log.error("Error to save list of employees: " + ExceptionUtils.getRootCause(e));
+			if (!txStatus.isCompleted()) {
+				transactionManager.rollback(txStatus);
+			}
+			resultDTO.clear();
+			candidates.forEach(employee -> {
+				employee.setId(null);
+				resultDTO.add(new EmployeeResultDTO(employee.getDni(), null, 500, ExceptionUtils.getRootCauseMessage(e)));
+			});
+		}
+		return resultDTO;
+	}
+	
+	private void checkLookupKeys(List<?> keys) {
+		if (keys == null) {
+			throw new IllegalArgumentException("Lookup keys cannot be null");
+		}
+		if (keys.size() > lookupMaxKeys) {
+			throw new IllegalArgumentException("Too many keys, the maximum is " + lookupMaxKeys);
+		}
+		if (keys.stream().anyMatch(Objects::isNull)) {
+			throw new IllegalArgumentException("Lookup keys cannot contain null values");
+		}
+	}
+	
+	private List<BulkResultDTO> setActive(List<UUID> ids, String position, boolean active) {
+		boolean byIds = ids != null && !ids.isEmpty();
+		boolean byPosition = position != null && !position.isBlank();
+		if (byIds == byPosition) {
+			throw new IllegalArgumentException("Either a list of ids or a position must be provided");
+		}
+		BulkResultDTO.Status changedStatus = active ? BulkResultDTO.Status.RESTORED : BulkResultDTO.Status.DELETED;
+		List<BulkResultDTO> resultDTO = new ArrayList<>();
+		List<UUID> changed = new ArrayList<>();
+		if (byPosition) {
+			changed.addAll(employeeJdbcRepository.setActiveByPosition(position, active));
+			changed.forEach(id -> resultDTO.add(new BulkResultDTO(id, changedStatus)));
+		} else {
+			if (ids.size() > bulkMaxIds) {
+				throw new IllegalArgumentException("Too many ids, the maximum is " + bulkMaxIds);
+			}
+			if (ids.stream().anyMatch(Objects::isNull)) {
+				throw new IllegalArgumentException("Employee ID cannot be null");
+			}
+			Set<UUID> requested = new LinkedHashSet<>(ids);
+			Map<UUID, Boolean> outcome = employeeJdbcRepository.setActive(requested, active);
+			BulkResultDTO.Status unchangedStatus = active ? BulkResultDTO.Status.ALREADY_ACTIVE : BulkResultDTO.Status.ALREADY_DELETED;
+			for (UUID id : requested) {
+				Boolean updated = outcome.get(id);
+				if (updated == null) {
+					resultDTO.add(new BulkResultDTO(id, BulkResultDTO.Status.NOT_FOUND));
+				} else if (updated) {
+					changed.add(id);
+					resultDTO.add(new BulkResultDTO(id, changedStatus));
+				} else {
+					resultDTO.add(new BulkResultDTO(id, unchangedStatus));
+				}
+			}
+		}
+		employeeCache.evictAllAfterCommit(changed);
+		invalidationBus.publish(changed);
+		return resultDTO;
+	}
+	
+	/**
+	 * Obtiene en una sola consulta los DNI normalizados del bloque que ya existen en la base de datos.
+	 * Solo se consultan los DNI que {@link DniMembershipFilter} no puede descartar.
+	 */
+	private Set<String> findExistingDnis(List<Employee> chunk) {
+		Set<String> dnis = new HashSet<>();
+		chunk.stream()
+			.filter(employee -> employee != null && employee.getDni() != null && dniFilter.mightContain(employee.getDni()))
+			.forEach(employee -> dnis.add(Employee.normalizeDni(employee.getDni())));
+		if (dnis.isEmpty()) {
+			return dnis;
+		}
+		return employeeMetrics.timeDuplicateCheck(true, () -> new HashSet<>(employeeRepository.findExistingDnis(dnis)));
+	}
+	
+	/**
+	 * Aplica las mismas validaciones que JPA ejecuta al persistir la entidad.
+	 * @throws IllegalArgumentException si el empleado es null o trae un id asignado
+	 * @throws ConstraintViolationException si no cumple las restricciones de la entidad
+	 */
+	private void validate(Employee employee) {
+		if (employee == null) {
+	        throw new IllegalArgumentException("Employee entity cannot be null");
+	    }
+		if (employee.getId() != null) {
+	        throw new IllegalArgumentException("Cannot save an employee with predefined ID, for updates, use the update method instead.");
+	    }
+		Set<ConstraintViolation<Employee>> violations = validator.validate(employee);
+		if (!violations.isEmpty()) {
+			throw new ConstraintViolationException(violations);
+		}
+	}
+	
 	/**
 	 * Actualiza solo los campos que deben ser modificados en el empleado existente.
 	 * @param existingEmployee Empleado existente en la base de datos
 	 * @param updatedEmployee Empleado con los datos actualizados
 	 */
-	private void updateEmployeeFields(Employee existingEmployee, Employee updatedEmployee) {
+	static void updateEmployeeFields(Employee existingEmployee, Employee updatedEmployee) {
 	    if (updatedEmployee.getName() != null) {
 	        existingEmployee.setName(updatedEmployee.getName());
 	    }
@@ -313,21 +1070,27 @@ public class EmployeeServiceImpl implements EmployeeService {
 	    if (updatedEmployee.getDni() != null) {
 	        existingEmployee.setDni(updatedEmployee.getDni());
 	    }
-	    
-	    existingEmployee.setActive(updatedEmployee.isActive());	    
 	}
 	
 	/**
-	 * Verifica si ya existe un empleado con el mismo DNI.
+	 * Verifica si ya existe un empleado con el mismo DNI (normalizado).
+	 * 
+	 * <p>Si {@link DniMembershipFilter} indica que el DNI no existe, se omite la consulta; el índice
+	 * único sobre el DNI normalizado sigue protegiendo contra duplicados.</p>
 	 *
 	 * @param employee Empleado a verificar
 	 * @throws DuplicateResourceException si ya existe un empleado con el mismo DNI
 	 */
 	private void checkForDuplicates(Employee employee) {
-	    if (employeeRepository.findByDniIgnoreCase(employee.getDni()).isPresent()) {
-	        throw new DuplicateResourceException("An employee with DNI '" + employee.getDni() + "' already exists");
+		String dni = Employee.normalizeDni(employee.getDni());
+	    if (dniFilter.mightContain(dni) && employeeMetrics.timeDuplicateCheck(false, () -> employeeRepository.existsByDniNormalized(dni))) {
+	        throw duplicateException(employee);
 	    }
 	}
+	
+	private static DuplicateResourceException duplicateException(Employee employee) {
+		return new DuplicateResourceException("An employee with DNI '" + employee.getDni() + "' already exists");
+	}
 
 	
 }
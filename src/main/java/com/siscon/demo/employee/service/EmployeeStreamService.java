@@ -0,0 +1,302 @@
+package com.siscon.demo.employee.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.siscon.demo.employee.dto.BulkLoadResultDTO;
+import com.siscon.demo.employee.dto.EmployeeCreateDTO;
+import com.siscon.demo.employee.dto.EmployeeResultDTO;
+import com.siscon.demo.employee.dto.RejectedRowDTO;
+import com.siscon.demo.employee.entity.Employee;
+import com.siscon.demo.employee.repository.EmployeeRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Importación y exportación de empleados en streaming.
+ *
+ * <p>En la importación los registros se leen de forma incremental (NDJSON, arreglo JSON o CSV con encabezado), se guardan
+ * en bloques de {@code employee.import.batch-size} mediante {@link EmployeeService#save(List)} y el
+ * resultado de cada registro se escribe en la respuesta como NDJSON en cuanto el bloque termina.
+ * La memoria utilizada depende del tamaño del bloque y no del tamaño de la carga.</p>
+ *
+ * <p>La carga masiva lee el contenido de la misma forma y lo envía por bloques de
+ * {@code employee.bulk-load.chunk-size} registros a {@link EmployeeService#bulkLoad(List)} (COPY), cada uno en su
+ * propia transacción; solo se conservan los totales y los primeros registros rechazados.</p>
+ *
+ * <p>En la exportación se recorre la tabla completa con una sola consulta y un cursor del lado del servidor,
+ * escribiendo cada empleado en cuanto se lee.</p>
+ */
+@Log4j2
+@Service
+public class EmployeeStreamService {
+
+	private final EmployeeService employeeService;
+	private final EmployeeRepository employeeRepository;
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
+	private final CsvMapper csvMapper;
+	private final Validator validator;
+
+	@Value("${employee.import.batch-size:500}")
+	private int chunkSize;
+
+	@Value("${employee.bulk-load.chunk-size:10000}")
+	private int bulkLoadChunkSize;
+
+	@Value("${employee.bulk-load.max-rejected-rows:1000}")
+	private int maxRejectedRows;
+
+	public EmployeeStreamService(EmployeeService employeeService, EmployeeRepository employeeRepository, EntityManager entityManager,
+			ObjectMapper objectMapper, Validator validator) {
+		this.employeeService = employeeService;
+		this.employeeRepository = employeeRepository;
+		this.entityManager = entityManager;
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+		this.csvMapper = CsvMapper.builder()
+				.findAndAddModules()
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+				.build();
+	}
+
+	/**
+	 * Importa los empleados leídos de {@code in} y escribe en {@code out} una línea NDJSON con el
+	 * {@link EmployeeResultDTO} de cada registro, en el mismo orden de entrada.
+	 *
+	 * <p>Un registro que no cumple las validaciones de {@link EmployeeCreateDTO} se reporta con código 500
+	 * sin detener la importación. Si el contenido no se puede interpretar, se guardan los registros
+	 * leídos hasta ese punto, se escribe una última línea con el error y la importación termina.</p>
+	 *
+	 * @param in Contenido de la petición
+	 * @param csv true si el contenido es CSV con encabezado, false si es NDJSON o un arreglo JSON
+	 * @param out Salida donde se escriben los resultados
+	 * @throws IOException si ocurre un error al escribir la respuesta
+	 */
+	public void importRecords(InputStream in, boolean csv, OutputStream out) throws IOException {
+		try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+			importRecords(in, csv, results -> {
+				writer.writeAll(results);
+				writer.flush();
+				out.flush();
+			});
+		}
+	}
+
+	/**
+	 * Importa los empleados leídos de {@code in} igual que {@link #importRecords(InputStream, boolean, OutputStream)},
+	 * entregando los resultados de cada bloque a {@code listener} en el mismo orden de entrada.
+	 *
+	 * @param in Contenido a importar
+	 * @param csv true si el contenido es CSV con encabezado, false si es NDJSON o un arreglo JSON
+	 * @param listener Recibe los resultados de cada bloque en cuanto termina
+	 * @throws IOException si el listener no puede procesar los resultados
+	 */
+	public void importRecords(InputStream in, boolean csv, ImportListener listener) throws IOException {
+		try (MappingIterator<EmployeeCreateDTO> records = readRecords(in, csv)) {
+			List<Object> chunk = new ArrayList<>(chunkSize);
+			while (true) {
+				EmployeeCreateDTO entityDTO;
+				try {
+					if (!records.hasNextValue()) {
+						break;
+					}
+					entityDTO = records.nextValue();
+				} catch (IOException | RuntimeException e) {
+					log.error("Error to read employees: " + ExceptionUtils.getRootCause(e));
+					saveChunk(chunk, listener);
+					listener.onResults(List.of(new EmployeeResultDTO(null, null, 500, ExceptionUtils.getRootCauseMessage(e))));
+					return;
+				}
+				chunk.add(toEmployeeOrError(entityDTO));
+				if (chunk.size() >= chunkSize) {
+					saveChunk(chunk, listener);
+				}
+			}
+			saveChunk(chunk, listener);
+		}
+	}
+
+	/**
+	 * Carga masiva de los empleados leídos de {@code in} mediante COPY, sin mantener el contenido ni el
+	 * resultado de cada registro en memoria.
+	 *
+	 * <p>Los registros se leen de forma incremental y se cargan en bloques de {@code employee.bulk-load.chunk-size},
+	 * cada uno confirmado en su propia transacción. Los registros inválidos o cuyo DNI ya existe (o está
+	 * repetido en la carga) se cuentan como rechazados y se reportan los primeros
+	 * {@code employee.bulk-load.max-rejected-rows}. Si el contenido no se puede interpretar o falla un bloque,
+	 * la carga se detiene: los bloques anteriores quedan guardados y el error se informa en el resultado.</p>
+	 *
+	 * @param in Contenido de la petición
+	 * @param csv true si el contenido es CSV con encabezado, false si es NDJSON o un arreglo JSON
+	 * @return Totales de la carga y los primeros registros rechazados
+	 * @throws IOException si el contenido no se puede abrir
+	 */
+	public BulkLoadResultDTO bulkLoadRecords(InputStream in, boolean csv) throws IOException {
+		BulkLoadResultDTO result = new BulkLoadResultDTO(0, 0, new ArrayList<>(), null);
+		try (MappingIterator<EmployeeCreateDTO> records = readRecords(in, csv)) {
+			List<Object> chunk = new ArrayList<>(bulkLoadChunkSize);
+			long firstRow = 1;
+			while (true) {
+				EmployeeCreateDTO entityDTO;
+				try {
+					if (!records.hasNextValue()) {
+						break;
+					}
+					entityDTO = records.nextValue();
+				} catch (IOException | RuntimeException e) {
+					log.error("Error to read employees: " + ExceptionUtils.getRootCause(e));
+					long failedRow = firstRow + chunk.size();
+					if (loadChunk(chunk, firstRow, result)) {
+						result.setError("Row " + failedRow + " could not be read: " + ExceptionUtils.getRootCauseMessage(e));
+					}
+					return result;
+				}
+				chunk.add(toEmployeeOrError(entityDTO));
+				if (chunk.size() >= bulkLoadChunkSize) {
+					int size = chunk.size();
+					if (!loadChunk(chunk, firstRow, result)) {
+						return result;
+					}
+					firstRow += size;
+				}
+			}
+			loadChunk(chunk, firstRow, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Exporta todos los empleados a {@code out}, uno por línea (NDJSON) o como CSV con encabezado.
+	 *
+	 * <p>Se ejecuta una única consulta cuyo resultado se lee por bloques mediante el fetch size de JDBC;
+	 * cada empleado se separa del contexto de persistencia después de escribirse, de modo que la memoria
+	 * se mantiene constante sin importar el tamaño de la tabla.</p>
+	 *
+	 * @param csv true para exportar en CSV, false para NDJSON
+	 * @param out Salida donde se escriben los empleados
+	 * @throws IOException si ocurre un error al escribir la respuesta
+	 */
+	@Transactional(readOnly = true)
+	public void exportRecords(boolean csv, OutputStream out) throws IOException {
+		ObjectWriter objectWriter = csv
+				? csvMapper.writerFor(Employee.class).with(csvMapper.schemaFor(Employee.class).withHeader())
+				: objectMapper.writerFor(Employee.class).withRootValueSeparator("\n");
+		try (SequenceWriter writer = objectWriter.writeValues(out);
+				Stream<Employee> employees = employeeRepository.streamAll()) {
+			Iterator<Employee> iterator = employees.iterator();
+			while (iterator.hasNext()) {
+				Employee employee = iterator.next();
+				writer.write(employee);
+				entityManager.detach(employee);
+			}
+		}
+	}
+
+	private MappingIterator<EmployeeCreateDTO> readRecords(InputStream in, boolean csv) throws IOException {
+		ObjectReader reader = csv
+				? csvMapper.readerFor(EmployeeCreateDTO.class).with(CsvSchema.emptySchema().withHeader())
+				: objectMapper.readerFor(EmployeeCreateDTO.class);
+		return reader.readValues(in);
+	}
+
+	/**
+	 * Valida el registro y lo convierte a Employee; si no es válido devuelve directamente su resultado con error.
+	 */
+	private Object toEmployeeOrError(EmployeeCreateDTO entityDTO) {
+		Set<ConstraintViolation<EmployeeCreateDTO>> violations = validator.validate(entityDTO);
+		if (violations.isEmpty()) {
+			return entityDTO.toEmployee();
+		}
+		String message = violations.stream()
+				.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+				.collect(Collectors.joining(", "));
+		return new EmployeeResultDTO(entityDTO.getDni(), null, 500, message);
+	}
+
+	/**
+	 * Guarda los empleados válidos del bloque y entrega los resultados respetando el orden de entrada.
+	 */
+	private void saveChunk(List<Object> chunk, ImportListener listener) throws IOException {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		List<Employee> employees = new ArrayList<>(chunk.size());
+		chunk.stream().filter(Employee.class::isInstance).forEach(item -> employees.add((Employee) item));
+		List<EmployeeResultDTO> saved = employees.isEmpty() ? List.of() : employeeService.save(employees);
+		List<EmployeeResultDTO> results = new ArrayList<>(chunk.size());
+		int next = 0;
+		for (Object item : chunk) {
+			results.add(item instanceof Employee ? saved.get(next++) : (EmployeeResultDTO) item);
+		}
+		listener.onResults(results);
+		chunk.clear();
+	}
+
+	/**
+	 * Carga los empleados válidos del bloque en una transacción y acumula sus totales en {@code result}.
+	 * @param firstRow Número del primer registro del bloque
+	 * @return false si el bloque falló; el error queda en {@code result}
+	 */
+	private boolean loadChunk(List<Object> chunk, long firstRow, BulkLoadResultDTO result) {
+		if (chunk.isEmpty()) {
+			return true;
+		}
+		List<Employee> employees = new ArrayList<>(chunk.size());
+		chunk.stream().filter(Employee.class::isInstance).forEach(item -> employees.add((Employee) item));
+		List<EmployeeResultDTO> loaded;
+		try {
+			loaded = employees.isEmpty() ? List.of() : employeeService.bulkLoad(employees);
+		} catch (RuntimeException e) {
+			log.error("Error to bulk load employees: " + ExceptionUtils.getRootCause(e));
+			result.setError("Rows from " + firstRow + " were not loaded: " + ExceptionUtils.getRootCauseMessage(e));
+			chunk.clear();
+			return false;
+		}
+		int next = 0;
+		for (int i = 0; i < chunk.size(); i++) {
+			EmployeeResultDTO row = chunk.get(i) instanceof Employee ? loaded.get(next++) : (EmployeeResultDTO) chunk.get(i);
+			if (row.getCode() == 200) {
+				result.setLoaded(result.getLoaded() + 1);
+			} else {
+				result.setRejected(result.getRejected() + 1);
+				if (result.getRejectedRows().size() < maxRejectedRows) {
+					result.getRejectedRows().add(new RejectedRowDTO(firstRow + i, row.getDni(), row.getMessage()));
+				}
+			}
+		}
+		chunk.clear();
+		return true;
+	}
+
+	/**
+	 * Recibe los resultados de la importación, bloque por bloque.
+	 */
+	@FunctionalInterface
+	public interface ImportListener {
+		void onResults(List<EmployeeResultDTO> results) throws IOException;
+	}
+}
@@ -0,0 +1,53 @@
+package com.siscon.demo.employee.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Executor compartido para procesar en paralelo los bloques de una importación.
+ *
+ * <p>Cada bloque usa su propia transacción y por lo tanto su propia conexión, así que el número de hilos
+ * se limita a {@code employee.import.parallelism}, sin superar la mitad del pool de Hikari: el resto de
+ * las conexiones queda libre para las peticiones interactivas. El límite es global, las tareas de todas las
+ * importaciones esperan en la misma cola.</p>
+ */
+@Log4j2
+@Component
+public class ImportExecutor implements DisposableBean {
+
+	private final ThreadPoolTaskExecutor executor;
+	private final int parallelism;
+
+	public ImportExecutor(@Value("${employee.import.parallelism:4}") int parallelism,
+			@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+		this.parallelism = Math.max(1, Math.min(parallelism, maximumPoolSize / 2));
+		if (this.parallelism < parallelism) {
+			log.info("Import parallelism limited to " + this.parallelism + " by the connection pool size " + maximumPoolSize);
+		}
+		this.executor = new ThreadPoolTaskExecutor();
+		this.executor.setCorePoolSize(this.parallelism);
+		this.executor.setMaxPoolSize(this.parallelism);
+		this.executor.setThreadNamePrefix("employee-import-chunk-");
+		this.executor.initialize();
+	}
+
+	public <T> CompletableFuture<T> submit(Supplier<T> task) {
+		return CompletableFuture.supplyAsync(task, executor);
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,112 @@
+package com.siscon.demo.employee.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.siscon.demo.employee.dto.EmployeeResultDTO;
+import com.siscon.demo.employee.dto.ImportJobDTO;
+import com.siscon.demo.employee.dto.RejectedRowDTO;
+
+/**
+ * Estado de una importación asíncrona. Lo actualiza el hilo que procesa la importación y lo leen
+ * las peticiones de consulta, por eso todos los accesos están sincronizados.
+ *
+ * <p>Solo se conservan los totales y los primeros {@code maxFailedRows} registros con error, de modo que
+ * la memoria de una importación no depende de su tamaño.</p>
+ */
+public class ImportJob {
+
+	public enum Status {
+		QUEUED, RUNNING, COMPLETED, FAILED
+	}
+
+	private final UUID id = UUID.randomUUID();
+	private final LocalDateTime submittedAt = LocalDateTime.now();
+	private final int maxFailedRows;
+	private final List<RejectedRowDTO> failedRows = new ArrayList<>();
+	private Status status = Status.QUEUED;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private long processed;
+	private long succeeded;
+	private long failed;
+	private String error;
+
+	ImportJob(int maxFailedRows) {
+		this.maxFailedRows = maxFailedRows;
+	}
+
+	public UUID getId() {
+		return id;
+	}
+
+	synchronized void start() {
+		status = Status.RUNNING;
+		startedAt = LocalDateTime.now();
+	}
+
+	synchronized void addResults(List<EmployeeResultDTO> chunk) {
+		for (EmployeeResultDTO result : chunk) {
+			processed++;
+			if (result.getCode() == 200) {
+				succeeded++;
+			} else {
+				failed++;
+				if (failedRows.size() < maxFailedRows) {
+					failedRows.add(new RejectedRowDTO(processed, result.getDni(), result.getMessage()));
+				}
+			}
+		}
+	}
+
+	synchronized void complete() {
+		status = Status.COMPLETED;
+		finishedAt = LocalDateTime.now();
+	}
+
+	synchronized void fail(String message) {
+		status = Status.FAILED;
+		error = message;
+		finishedAt = LocalDateTime.now();
+	}
+
+	synchronized boolean isFinishedBefore(LocalDateTime time) {
+		return finishedAt != null && finishedAt.isBefore(time);
+	}
+
+	/**
+	 * Copia el estado actual con una página de los registros con error.
+	 * @param page Número de página, desde 0
+	 * @param size Registros por página
+	 */
+	public synchronized ImportJobDTO toDTO(int page, int size) {
+		int from = (int) Math.min((long) page * size, failedRows.size());
+		int to = Math.min(from + size, failedRows.size());
+		ImportJobDTO jobDTO = new ImportJobDTO();
+		jobDTO.setId(id);
+		jobDTO.setStatus(status.name());
+		jobDTO.setSubmittedAt(submittedAt);
+		jobDTO.setStartedAt(startedAt);
+		jobDTO.setFinishedAt(finishedAt);
+		jobDTO.setProcessed(processed);
+		jobDTO.setSucceeded(succeeded);
+		jobDTO.setFailed(failed);
+		jobDTO.setRowsPerSecond(rowsPerSecond());
+		jobDTO.setError(error);
+		jobDTO.setPage(page);
+		jobDTO.setSize(size);
+		jobDTO.setFailedRows(new ArrayList<>(failedRows.subList(from, to)));
+		return jobDTO;
+	}
+
+	private double rowsPerSecond() {
+		if (startedAt == null) {
+			return 0;
+		}
+		long millis = Duration.between(startedAt, finishedAt != null ? finishedAt : LocalDateTime.now()).toMillis();
+		return millis == 0 ? 0 : processed * 1000.0 / millis;
+	}
+}
@@ -0,0 +1,74 @@
+package com.siscon.demo.employee.utility;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor opaco del feed de cambios de empleados.
+ *
+ * <p>Guarda la posición del último cambio entregado: el id de la transacción que lo escribió y su número
+ * de secuencia, codificados en Base64 URL-safe. El cliente solo debe devolverlo tal cual en la siguiente
+ * petición.</p>
+ */
+public final class ChangeCursor {
+
+	/** Posición anterior a todos los cambios, para la sincronización inicial. */
+	public static final ChangeCursor FIRST = new ChangeCursor(0, 0);
+
+	private final long txid;
+	private final long seq;
+
+	public ChangeCursor(long txid, long seq) {
+		this.txid = txid;
+		this.seq = seq;
+	}
+
+	/**
+	 * Decodifica un cursor recibido del cliente.
+	 * @param cursor El cursor, null o vacío para empezar desde el primer cambio
+	 * @throws IllegalArgumentException si el cursor no es válido
+	 */
+	public static ChangeCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return FIRST;
+		}
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+			int separator = value.indexOf('.');
+			ChangeCursor decoded = new ChangeCursor(Long.parseLong(value.substring(0, separator)), Long.parseLong(value.substring(separator + 1)));
+			if (decoded.txid < 0 || decoded.seq < 0) {
+				throw new IllegalArgumentException();
+			}
+			return decoded;
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Invalid cursor: " + cursor);
+		}
+	}
+
+	public String encode() {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString((txid + "." + seq).getBytes(StandardCharsets.US_ASCII));
+	}
+
+	public long getTxid() {
+		return txid;
+	}
+
+	public long getSeq() {
+		return seq;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof ChangeCursor cursor && cursor.txid == txid && cursor.seq == seq;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(txid) * 31 + Long.hashCode(seq);
+	}
+
+	@Override
+	public String toString() {
+		return encode();
+	}
+}
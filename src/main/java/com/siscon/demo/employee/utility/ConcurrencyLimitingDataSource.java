@@ -0,0 +1,99 @@
+package com.siscon.demo.employee.utility;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource que limita cuántas conexiones pueden estar en uso al mismo tiempo con un semáforo justo (FIFO).
+ *
+ * <p>Pensado para el modo de hilos virtuales: miles de hilos pueden pedir una conexión a la vez y, sin
+ * este límite, todos esperarían dentro del pool. Con el semáforo esperan en orden de llegada y sin
+ * bloquear hilos de plataforma; si no obtienen un permiso dentro de {@code acquireTimeout} fallan con
+ * {@link SQLTransientConnectionException}, igual que cuando el pool se agota. El permiso se libera al
+ * cerrar la conexión.</p>
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+	private final Semaphore permits;
+	private final long acquireTimeoutMillis;
+
+	public ConcurrencyLimitingDataSource(DataSource targetDataSource, int maxConcurrency, Duration acquireTimeout) {
+		super(targetDataSource);
+		this.permits = new Semaphore(maxConcurrency, true);
+		this.acquireTimeoutMillis = acquireTimeout.toMillis();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		acquire();
+		try {
+			return limited(super.getConnection());
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		acquire();
+		try {
+			return limited(super.getConnection(username, password));
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	public int getAvailablePermits() {
+		return permits.availablePermits();
+	}
+
+	private void acquire() throws SQLException {
+		try {
+			if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+				throw new SQLTransientConnectionException("Connection not available, request timed out after " + acquireTimeoutMillis + "ms");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+		}
+	}
+
+	/**
+	 * Envuelve la conexión para liberar el permiso una sola vez al cerrarla. El resto de los métodos,
+	 * incluido {@code unwrap}, se delegan a la conexión original.
+	 */
+	private Connection limited(Connection connection) {
+		AtomicBoolean released = new AtomicBoolean();
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+				(proxy, method, args) -> {
+					if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+						try {
+							connection.close();
+						} finally {
+							if (released.compareAndSet(false, true)) {
+								permits.release();
+							}
+						}
+						return null;
+					}
+					try {
+						return method.invoke(connection, args);
+					} catch (InvocationTargetException e) {
+						throw e.getTargetException();
+					}
+				});
+	}
+}
@@ -0,0 +1,84 @@
+package com.siscon.demo.employee.utility;
+
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+/**
+ * Genera los ids de los empleados, tanto para JPA ({@code @UuidGenerator(algorithm = ...)}) como para las
+ * inserciones por JDBC y COPY.
+ *
+ * <p>La estrategia se configura con {@code employee.id.strategy}:</p>
+ * <ul>
+ *   <li>{@code time-ordered} (por defecto): UUID versión 7 (RFC 9562), con los primeros 48 bits de milisegundos
+ *       desde epoch. Los ids nuevos son crecientes, por lo que las inserciones se concentran en las últimas
+ *       páginas del índice de la llave primaria en lugar de dividir páginas al azar.</li>
+ *   <li>{@code random}: UUID versión 4, el comportamiento anterior.</li>
+ * </ul>
+ *
+ * <p>Ambas son UUID válidos para la misma columna, las filas existentes con ids versión 4 no cambian.</p>
+ */
+public class EmployeeIdGenerator implements UuidValueGenerator {
+
+	public enum Strategy {
+		RANDOM, TIME_ORDERED;
+
+		/**
+		 * @param value {@code random} o {@code time-ordered}
+		 */
+		public static Strategy from(String value) {
+			try {
+				return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Unsupported id strategy: " + value + ", expected random or time-ordered");
+			}
+		}
+	}
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private static volatile Strategy strategy = Strategy.TIME_ORDERED;
+
+	public static void setStrategy(Strategy strategy) {
+		EmployeeIdGenerator.strategy = strategy;
+	}
+
+	public static Strategy getStrategy() {
+		return strategy;
+	}
+
+	/**
+	 * @return Un id nuevo con la estrategia configurada
+	 */
+	public static UUID next() {
+		return next(strategy);
+	}
+
+	public static UUID next(Strategy strategy) {
+		return strategy == Strategy.RANDOM ? UUID.randomUUID() : timeOrdered(System.currentTimeMillis());
+	}
+
+	/**
+	 * UUID versión 7: 48 bits de timestamp en milisegundos, versión, 12 bits aleatorios, variante y 62 bits
+	 * aleatorios.
+	 */
+	static UUID timeOrdered(long epochMillis) {
+		byte[] random = new byte[10];
+		RANDOM.nextBytes(random);
+		long mostSigBits = (epochMillis << 16) | 0x7000L | ((random[0] & 0x0FL) << 8) | (random[1] & 0xFFL);
+		long leastSigBits = 0;
+		for (int i = 2; i < 10; i++) {
+			leastSigBits = (leastSigBits << 8) | (random[i] & 0xFFL);
+		}
+		leastSigBits = (leastSigBits & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+	@Override
+	public UUID generateUuid(SharedSessionContractImplementor session) {
+		return next();
+	}
+}
@@ -0,0 +1,130 @@
+package com.siscon.demo.employee.utility;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Cursor opaco para la paginación por keyset (seek) del listado de empleados.
+ *
+ * <p>El cursor guarda el campo de ordenamiento, la dirección y los valores de la última fila devuelta
+ * (campo de ordenamiento e id), codificados como JSON en Base64 URL-safe. El cliente solo debe devolverlo
+ * tal cual en la siguiente petición.</p>
+ */
+public final class KeysetCursor {
+
+	/**
+	 * Campos por los que se permite paginar con cursor. Solo columnas NOT NULL: un valor nulo
+	 * rompería la comparación del keyset.
+	 */
+	public static final Set<String> SORT_PROPERTIES = Set.of("name", "firstname", "dni", "position", "birthdate", "createdAt");
+
+	private static final String ID = "id";
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private final String property;
+	private final Direction direction;
+	private final KeysetScrollPosition position;
+
+	private KeysetCursor(String property, Direction direction, KeysetScrollPosition position) {
+		this.property = property;
+		this.direction = direction;
+		this.position = position;
+	}
+
+	/**
+	 * Cursor para la primera página.
+	 * @throws IllegalArgumentException si el campo de ordenamiento no está soportado
+	 */
+	public static KeysetCursor first(String property, Direction direction) {
+		checkProperty(property);
+		return new KeysetCursor(property, direction, ScrollPosition.keyset());
+	}
+
+	/**
+	 * Decodifica un cursor recibido del cliente.
+	 * @throws IllegalArgumentException si el cursor no es válido
+	 */
+	public static KeysetCursor decode(String cursor) {
+		Map<String, String> values;
+		try {
+			values = MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), new TypeReference<Map<String, String>>() {});
+		} catch (Exception e) {
+			throw new IllegalArgumentException("Invalid cursor: " + cursor);
+		}
+		String property = values.get("s");
+		checkProperty(property);
+		if (values.get("k") == null || values.get(ID) == null) {
+			throw new IllegalArgumentException("Invalid cursor: " + cursor);
+		}
+		Map<String, Object> keys = new LinkedHashMap<>();
+		Direction direction;
+		try {
+			keys.put(property, parseKey(property, values.get("k")));
+			keys.put(ID, UUID.fromString(values.get(ID)));
+			direction = Direction.fromString(values.get("d"));
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Invalid cursor: " + cursor);
+		}
+		return new KeysetCursor(property, direction, ScrollPosition.forward(keys));
+	}
+
+	/**
+	 * Codifica el cursor a partir de la posición de la última fila devuelta.
+	 */
+	public String encode(KeysetScrollPosition next) {
+		Map<String, String> values = new LinkedHashMap<>();
+		values.put("s", property);
+		values.put("d", direction.name());
+		values.put("k", String.valueOf(next.getKeys().get(property)));
+		values.put(ID, String.valueOf(next.getKeys().get(ID)));
+		try {
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsString(values).getBytes(StandardCharsets.UTF_8));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Cursor could not be encoded", e);
+		}
+	}
+
+	public KeysetScrollPosition getPosition() {
+		return position;
+	}
+
+	/**
+	 * Ordenamiento del keyset: el campo solicitado con el id como desempate.
+	 */
+	public Sort getSort() {
+		return Sort.by(direction, property).and(Sort.by(direction, ID));
+	}
+
+	private static void checkProperty(String property) {
+		if (property == null || !SORT_PROPERTIES.contains(property)) {
+			throw new IllegalArgumentException("Unsupported sort property for cursor pagination: " + property
+					+ ", supported: " + SORT_PROPERTIES);
+		}
+	}
+
+	private static Object parseKey(String property, String value) {
+		switch (property) {
+		case "birthdate":
+			return LocalDate.parse(value);
+		case "createdAt":
+			return LocalDateTime.parse(value);
+		default:
+			return value;
+		}
+	}
+}
@@ -1,9 +1,12 @@
 package com.siscon.demo.employee.utility;
 
-import java.util.Enumeration;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
@@ -12,103 +15,119 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.log4j.Log4j2;
 
 /**
- * Interceptor que registra todos los headers de las peticiones HTTP recibidas.
- * Útil para depuración, auditoría y monitoreo del tráfico de la aplicación.
+ * Interceptor que registra una línea de acceso por petición HTTP: método, URL, estado, latencia, desglose de
+ * {@link RequestTiming} (si está habilitado), IP del cliente y los headers configurados.
+ *
+ * <p>Está en el camino de todas las peticiones, por lo que hace el mínimo trabajo posible: si el nivel INFO
+ * está deshabilitado no hace nada, solo se registra una muestra de las peticiones
+ * ({@code employee.access-log.sample-rate}) y solo se leen los headers de la lista
+ * {@code employee.access-log.headers}. Las peticiones con error del servidor o más lentas que
+ * {@code employee.access-log.slow-threshold} se registran siempre. La escritura es asíncrona
+ * (ver {@code logback-spring.xml}).</p>
  */
 @Log4j2
 @Component
 public class RequestHeadersInterceptor implements HandlerInterceptor {
 
-    /**
-     * Se ejecuta antes de que el controlador procese la petición.
-     * Captura y registra todos los headers de la petición entrante.
-     */
-    @Override
-    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        String method = request.getMethod();
-        String uri = request.getRequestURI();
-        String queryString = request.getQueryString();
-        String clientIp = getClientIp(request);
-        
-        String fullUrl = uri + (queryString != null ? "?" + queryString : "");
-        
-        log.info("Incoming request: {} {} from IP: {}", method, fullUrl, clientIp);
-        
-        Map<String, String> headers = getRequestHeaders(request);
-        log.info("Request headers for {} {}: {}", method, uri, formatHeaders(headers));
-        
-        return true;
-    }
-    
-    /**
-     * Obtiene todos los headers de la petición y los devuelve como un mapa.
-     * @param request La petición HTTP
-     * @return Mapa de nombres de headers y sus valores
-     */
-    private Map<String, String> getRequestHeaders(HttpServletRequest request) {
-        Map<String, String> headersMap = new HashMap<>();
-        Enumeration<String> headerNames = request.getHeaderNames();
-        
-        if (headerNames != null) {
-            while (headerNames.hasMoreElements()) {
-                String headerName = headerNames.nextElement();
-                String headerValue = request.getHeader(headerName);
-                
-                if ("authorization".equalsIgnoreCase(headerName) && headerValue != null) {
-                    headerValue = "********";
-                }
-                
-                headersMap.put(headerName, headerValue);
-            }
-        }
-        
-        return headersMap;
-    }
-    
-    /**
-     * Formatea los headers para una mejor presentación en los logs.
-     * @param headers Mapa de headers
-     * @return String formateado con los headers
-     */
-    private String formatHeaders(Map<String, String> headers) {
-        if (headers.isEmpty()) {
-            return "No headers";
-        }
-        
-        StringBuilder builder = new StringBuilder("\n");
-        headers.forEach((name, value) -> builder.append(String.format("    %s: %s\n", name, value)));
-        return builder.toString();
-    }
-    
-    /**
-     * Obtiene la dirección IP real del cliente, considerando proxies y balanceadores.
-     * @param request La petición HTTP
-     * @return La dirección IP del cliente
-     */
-    private String getClientIp(HttpServletRequest request) {
-        String clientIp = request.getHeader("X-Forwarded-For");
-        
-        if (clientIp == null || clientIp.isEmpty() || "unknown".equalsIgnoreCase(clientIp)) {
-            clientIp = request.getHeader("Proxy-Client-IP");
-        }
-        if (clientIp == null || clientIp.isEmpty() || "unknown".equalsIgnoreCase(clientIp)) {
-            clientIp = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (clientIp == null || clientIp.isEmpty() || "unknown".equalsIgnoreCase(clientIp)) {
-            clientIp = request.getHeader("HTTP_CLIENT_IP");
-        }
-        if (clientIp == null || clientIp.isEmpty() || "unknown".equalsIgnoreCase(clientIp)) {
-            clientIp = request.getHeader("HTTP_X_FORWARDED_FOR");
-        }
-        if (clientIp == null || clientIp.isEmpty() || "unknown".equalsIgnoreCase(clientIp)) {
-            clientIp = request.getRemoteAddr();
-        }
-        
-        // Si hay múltiples IPs (caso de múltiples proxies), tomar la primera
-        if (clientIp != null && clientIp.contains(",")) {
-            clientIp = clientIp.split(",")[0].trim();
-        }
-        
-        return clientIp;
-    }
-}
\ No newline at end of file
+	private static final String START_ATTRIBUTE = RequestHeadersInterceptor.class.getName() + ".start";
+	private static final String SAMPLED_ATTRIBUTE = RequestHeadersInterceptor.class.getName() + ".sampled";
+	private static final Set<String> MASKED_HEADERS = Set.of("authorization", "proxy-authorization", "cookie");
+	private static final List<String> CLIENT_IP_HEADERS = List.of("X-Forwarded-For", "Proxy-Client-IP", "WL-Proxy-Client-IP",
+			"HTTP_CLIENT_IP", "HTTP_X_FORWARDED_FOR");
+
+	private final double sampleRate;
+	private final List<String> headers;
+	private final long slowThresholdNanos;
+
+	public RequestHeadersInterceptor(@Value("${employee.access-log.sample-rate:1.0}") double sampleRate,
+			@Value("${employee.access-log.headers:}") List<String> headers,
+			@Value("${employee.access-log.slow-threshold:1s}") Duration slowThreshold) {
+		this.sampleRate = sampleRate;
+		this.headers = headers.stream().map(String::trim).filter(header -> !header.isEmpty()).toList();
+		this.slowThresholdNanos = slowThreshold.toNanos();
+	}
+
+	/**
+	 * Se ejecuta antes de que el controlador procese la petición.
+	 * Guarda el instante de inicio y decide si la petición forma parte de la muestra.
+	 */
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (log.isInfoEnabled()) {
+			request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+			request.setAttribute(SAMPLED_ATTRIBUTE, isSampled());
+		}
+		return true;
+	}
+
+	/**
+	 * Se ejecuta al terminar la petición, con el estado ya definido. Registra la línea de acceso si la
+	 * petición forma parte de la muestra, falló en el servidor o fue lenta.
+	 */
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+			return;
+		}
+		long elapsed = System.nanoTime() - start;
+		int status = response.getStatus();
+		if (shouldLog(Boolean.TRUE.equals(request.getAttribute(SAMPLED_ATTRIBUTE)), status, elapsed)) {
+			String queryString = request.getQueryString();
+			Object timing = request.getAttribute(RequestTiming.ATTRIBUTE);
+			log.info("{} {}{}{} {} {}ms{}{} ip={}{}", request.getMethod(), request.getRequestURI(), queryString != null ? "?" : "",
+					queryString != null ? queryString : "", status, TimeUnit.NANOSECONDS.toMillis(elapsed), timing != null ? " " : "",
+					timing != null ? timing : "", getClientIp(request), formatHeaders(request));
+		}
+	}
+
+	boolean isSampled() {
+		return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+	}
+
+	boolean shouldLog(boolean sampled, int status, long elapsedNanos) {
+		return sampled || status >= 500 || elapsedNanos >= slowThresholdNanos;
+	}
+
+	/**
+	 * Formatea solo los headers configurados que están presentes en la petición, ocultando las credenciales.
+	 * @param request La petición HTTP
+	 * @return Los headers como {@code " nombre=valor"}, o una cadena vacía
+	 */
+	String formatHeaders(HttpServletRequest request) {
+		if (headers.isEmpty()) {
+			return "";
+		}
+		StringBuilder builder = new StringBuilder();
+		for (String name : headers) {
+			String value = request.getHeader(name);
+			if (value != null) {
+				builder.append(' ').append(name).append('=')
+						.append(MASKED_HEADERS.contains(name.toLowerCase()) ? "********" : value);
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Obtiene la dirección IP real del cliente, considerando proxies y balanceadores.
+	 * @param request La petición HTTP
+	 * @return La dirección IP del cliente
+	 */
+	private String getClientIp(HttpServletRequest request) {
+		String clientIp = null;
+		for (String header : CLIENT_IP_HEADERS) {
+			clientIp = request.getHeader(header);
+			if (clientIp != null && !clientIp.isEmpty() && !"unknown".equalsIgnoreCase(clientIp)) {
+				break;
+			}
+			clientIp = null;
+		}
+		if (clientIp == null) {
+			return request.getRemoteAddr();
+		}
+
+		// Si hay múltiples IPs (caso de múltiples proxies), tomar la primera
+		int comma = clientIp.indexOf(',');
+		return comma < 0 ? clientIp : clientIp.substring(0, comma).trim();
+	}
+}
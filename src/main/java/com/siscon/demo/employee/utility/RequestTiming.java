@@ -0,0 +1,125 @@
+package com.siscon.demo.employee.utility;
+
+/**
+ * Tiempos de una petición HTTP: sentencias SQL y tiempo en la base de datos, tiempo en los servicios y
+ * tiempo de serialización JSON.
+ *
+ * <p>Se asocia al hilo que atiende la petición ({@link #start}) y se acumula desde
+ * {@link StatementTimingDataSource}, {@link RequestTimingAspect} y {@link TimingJsonHttpMessageConverter}.
+ * El trabajo que se hace en otros hilos (importación en paralelo, importaciones asíncronas, exportación) no
+ * se contabiliza.</p>
+ */
+public final class RequestTiming {
+
+	public static final String ATTRIBUTE = RequestTiming.class.getName();
+
+	private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+	private final long start = System.nanoTime();
+	private final String endpoint;
+	private final int statementBudget;
+	private final boolean failOverBudget;
+	private int statements;
+	private long dbNanos;
+	private long serviceNanos;
+	private long serializationNanos;
+	private int serviceDepth;
+	private long serviceStart;
+
+	RequestTiming(String endpoint, int statementBudget, boolean failOverBudget) {
+		this.endpoint = endpoint;
+		this.statementBudget = statementBudget;
+		this.failOverBudget = failOverBudget;
+	}
+
+	/**
+	 * Inicia la medición en el hilo actual.
+	 * @param endpoint Nombre del endpoint, para los mensajes
+	 * @param statementBudget Sentencias permitidas, 0 sin límite
+	 * @param failOverBudget true para rechazar las sentencias que exceden el presupuesto
+	 */
+	public static RequestTiming start(String endpoint, int statementBudget, boolean failOverBudget) {
+		RequestTiming timing = new RequestTiming(endpoint, statementBudget, failOverBudget);
+		CURRENT.set(timing);
+		return timing;
+	}
+
+	public static RequestTiming current() {
+		return CURRENT.get();
+	}
+
+	public static void clear() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * Se invoca antes de ejecutar una sentencia.
+	 * @throws IllegalStateException si la sentencia excede el presupuesto y el modo es {@code fail}
+	 */
+	void beforeStatement() {
+		if (failOverBudget && isOverBudget(statements + 1)) {
+			throw new IllegalStateException("Statement budget exceeded for " + endpoint + ": more than " + statementBudget + " statements");
+		}
+	}
+
+	void statementExecuted(long nanos) {
+		statements++;
+		dbNanos += nanos;
+	}
+
+	void serviceStarted() {
+		if (serviceDepth++ == 0) {
+			serviceStart = System.nanoTime();
+		}
+	}
+
+	void serviceFinished() {
+		if (--serviceDepth == 0) {
+			serviceNanos += System.nanoTime() - serviceStart;
+		}
+	}
+
+	void serialized(long nanos) {
+		serializationNanos += nanos;
+	}
+
+	public boolean isOverBudget() {
+		return isOverBudget(statements);
+	}
+
+	private boolean isOverBudget(int count) {
+		return statementBudget > 0 && count > statementBudget;
+	}
+
+	public String getEndpoint() {
+		return endpoint;
+	}
+
+	public int getStatementBudget() {
+		return statementBudget;
+	}
+
+	public int getStatements() {
+		return statements;
+	}
+
+	/**
+	 * Valor del header {@code Server-Timing}: base de datos, servicios y tiempo total hasta el momento.
+	 */
+	public String toServerTiming() {
+		return "db;dur=" + millis(dbNanos) + ";desc=\"" + statements + " statements\", service;dur=" + millis(serviceNanos)
+				+ ", app;dur=" + millis(System.nanoTime() - start);
+	}
+
+	/**
+	 * Resumen para el log de acceso.
+	 */
+	@Override
+	public String toString() {
+		return "db=" + millis(dbNanos) + "ms/" + statements + " service=" + millis(serviceNanos) + "ms json=" + millis(serializationNanos) + "ms";
+	}
+
+	private static double millis(long nanos) {
+		return (nanos / 100_000) / 10.0;
+	}
+}
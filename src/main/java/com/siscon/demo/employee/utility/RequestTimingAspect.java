@@ -0,0 +1,31 @@
+package com.siscon.demo.employee.utility;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Acumula en {@link RequestTiming} el tiempo que la petición pasa dentro de los servicios. Las llamadas
+ * anidadas entre servicios se cuentan una sola vez.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "employee.request-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestTimingAspect {
+
+	@Around("within(com.siscon.demo.employee.service..*) && @within(org.springframework.stereotype.Service) && execution(public * *(..))")
+	public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+		RequestTiming timing = RequestTiming.current();
+		if (timing == null) {
+			return joinPoint.proceed();
+		}
+		timing.serviceStarted();
+		try {
+			return joinPoint.proceed();
+		} finally {
+			timing.serviceFinished();
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.siscon.demo.employee.utility;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Inicia y termina la medición de {@link RequestTiming} en cada petición y verifica el presupuesto de
+ * sentencias SQL del endpoint ({@link StatementBudget} o {@code employee.request-timing.statement-budget.default}).
+ *
+ * <p>Modos de {@code employee.request-timing.statement-budget.mode}: {@code off}, {@code warn} (registra una
+ * advertencia al terminar la petición) y {@code fail} (rechaza la sentencia que excede el presupuesto con
+ * {@link IllegalStateException}, pensado para las pruebas).</p>
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "employee.request-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestTimingInterceptor implements AsyncHandlerInterceptor {
+
+	private final String mode;
+	private final int defaultBudget;
+
+	public RequestTimingInterceptor(@Value("${employee.request-timing.statement-budget.mode:warn}") String mode,
+			@Value("${employee.request-timing.statement-budget.default:0}") int defaultBudget) {
+		if (!"off".equals(mode) && !"warn".equals(mode) && !"fail".equals(mode)) {
+			throw new IllegalArgumentException("Unsupported statement budget mode: " + mode + ", expected off, warn or fail");
+		}
+		this.mode = mode;
+		this.defaultBudget = defaultBudget;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		String endpoint = request.getMethod() + " " + request.getRequestURI();
+		int budget = 0;
+		if (!"off".equals(mode)) {
+			budget = defaultBudget;
+			if (handler instanceof HandlerMethod handlerMethod) {
+				endpoint = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+				StatementBudget statementBudget = handlerMethod.getMethodAnnotation(StatementBudget.class);
+				if (statementBudget != null) {
+					budget = statementBudget.value();
+				}
+			}
+		}
+		request.setAttribute(RequestTiming.ATTRIBUTE, RequestTiming.start(endpoint, budget, "fail".equals(mode)));
+		return true;
+	}
+
+	/**
+	 * Las peticiones asíncronas terminan en otro hilo, se libera el hilo actual.
+	 */
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		RequestTiming.clear();
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		RequestTiming.clear();
+		if (request.getAttribute(RequestTiming.ATTRIBUTE) instanceof RequestTiming timing && timing.isOverBudget()) {
+			log.warn("Statement budget exceeded for " + timing.getEndpoint() + ": " + timing.getStatements()
+					+ " statements, budget " + timing.getStatementBudget());
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.siscon.demo.employee.utility;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Agrega el header {@code Server-Timing} (base de datos, servicios y total) justo antes de escribir el
+ * cuerpo de la respuesta, cuando los headers todavía se pueden modificar. El tiempo de serialización se
+ * conoce después de escribir la respuesta, por lo que solo aparece en el log de acceso.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "employee.request-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+	public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request, ServerHttpResponse response) {
+		RequestTiming timing = RequestTiming.current();
+		if (timing != null) {
+			response.getHeaders().set(SERVER_TIMING_HEADER, timing.toServerTiming());
+		}
+		return body;
+	}
+}
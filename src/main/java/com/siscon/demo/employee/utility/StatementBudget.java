@@ -0,0 +1,27 @@
+package com.siscon.demo.employee.utility;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Número máximo de sentencias SQL que un endpoint debería ejecutar en el hilo de la petición.
+ *
+ * <p>Lo verifica {@link RequestTimingInterceptor} según {@code employee.request-timing.statement-budget.mode}:
+ * con {@code warn} registra una advertencia al terminar la petición y con {@code fail} rechaza la sentencia
+ * que excede el presupuesto, para detectar en las pruebas consultas N+1 o viajes adicionales a la base de
+ * datos.</p>
+ *
+ * <p>El presupuesto cuenta todas las sentencias del hilo, incluidas las de infraestructura: por ejemplo, las
+ * escrituras que modifican empleados existentes (actualizar, modificar parcialmente, eliminar) incluyen el
+ * {@code pg_notify} que {@link com.siscon.demo.employee.cache.EmployeeInvalidationBus} envía antes del commit.</p>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+	int value();
+}
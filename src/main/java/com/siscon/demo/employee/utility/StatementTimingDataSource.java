@@ -0,0 +1,93 @@
+package com.siscon.demo.employee.utility;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource que cuenta y mide las sentencias SQL ejecutadas durante una petición HTTP.
+ *
+ * <p>Las conexiones y sentencias se envuelven en proxies que solo hacen trabajo adicional en los métodos
+ * {@code execute*}, y solo si hay un {@link RequestTiming} activo en el hilo. Un {@code executeBatch} cuenta
+ * como una sentencia (un viaje a la base de datos). El resto de los métodos, incluido {@code unwrap}, se
+ * delegan a los objetos originales.</p>
+ */
+public class StatementTimingDataSource extends DelegatingDataSource {
+
+	private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+	public StatementTimingDataSource(DataSource targetDataSource) {
+		super(targetDataSource);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return timed(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return timed(super.getConnection(username, password));
+	}
+
+	private static Connection timed(Connection connection) {
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+				(proxy, method, args) -> {
+					if (isIdentityMethod(method)) {
+						return identity(proxy, method, args);
+					}
+					Object result = invoke(connection, method, args);
+					if (result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())) {
+						return timed(statement, method.getReturnType());
+					}
+					return result;
+				});
+	}
+
+	private static Object timed(Statement statement, Class<?> type) {
+		return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> {
+					if (isIdentityMethod(method)) {
+						return identity(proxy, method, args);
+					}
+					RequestTiming timing = RequestTiming.current();
+					if (timing == null || !method.getName().startsWith("execute")) {
+						return invoke(statement, method, args);
+					}
+					timing.beforeStatement();
+					long start = System.nanoTime();
+					try {
+						return invoke(statement, method, args);
+					} finally {
+						timing.statementExecuted(System.nanoTime() - start);
+					}
+				});
+	}
+
+	private static boolean isIdentityMethod(Method method) {
+		return method.getDeclaringClass() == Object.class && !"toString".equals(method.getName());
+	}
+
+	/**
+	 * {@code equals} y {@code hashCode} por identidad del proxy, como los objetos de Hikari.
+	 */
+	private static Object identity(Object proxy, Method method, Object[] args) {
+		return "equals".equals(method.getName()) ? proxy == args[0] : System.identityHashCode(proxy);
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+}
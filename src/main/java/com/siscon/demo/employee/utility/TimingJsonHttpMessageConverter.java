@@ -0,0 +1,36 @@
+package com.siscon.demo.employee.utility;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Conversor JSON de Spring MVC que acumula en {@link RequestTiming} el tiempo de serialización de las
+ * respuestas.
+ */
+public class TimingJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+	public TimingJsonHttpMessageConverter(ObjectMapper objectMapper) {
+		super(objectMapper);
+	}
+
+	@Override
+	protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+		RequestTiming timing = RequestTiming.current();
+		if (timing == null) {
+			super.writeInternal(object, type, outputMessage);
+			return;
+		}
+		long start = System.nanoTime();
+		try {
+			super.writeInternal(object, type, outputMessage);
+		} finally {
+			timing.serialized(System.nanoTime() - start);
+		}
+	}
+}
@@ -0,0 +1,5 @@
+-- Stops recording employee events in siscon_employee_outbox, for every instance sharing the database.
+-- Set employee.outbox.enabled=false on the instances once their relays have drained the outbox.
+-- The application does not reinstall the triggers on startup, run enable-employee-outbox.sql to record events again.
+DROP TRIGGER IF EXISTS siscon_employee_outbox_insert ON siscon_employee;
+DROP TRIGGER IF EXISTS siscon_employee_outbox_update ON siscon_employee;
@@ -0,0 +1,11 @@
+-- Records employee events in siscon_employee_outbox again after disable-employee-outbox.sql.
+-- Changes made while the triggers were removed have no events. Start at least one instance with
+-- employee.outbox.enabled=true so the outbox is relayed.
+BEGIN;
+DROP TRIGGER IF EXISTS siscon_employee_outbox_insert ON siscon_employee;
+DROP TRIGGER IF EXISTS siscon_employee_outbox_update ON siscon_employee;
+CREATE TRIGGER siscon_employee_outbox_insert AFTER INSERT ON siscon_employee
+	REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION siscon_employee_outbox_insert();
+CREATE TRIGGER siscon_employee_outbox_update AFTER UPDATE ON siscon_employee
+	REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION siscon_employee_outbox_update();
+COMMIT;
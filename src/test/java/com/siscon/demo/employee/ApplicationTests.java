@@ -4,27 +4,92 @@ package com.siscon.demo.employee;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siscon.demo.employee.cache.DniMembershipFilter;
+import com.siscon.demo.employee.cache.EmployeeCache;
+import com.siscon.demo.employee.cache.EmployeeInvalidationBus;
+import com.siscon.demo.employee.controller.EmployeeController;
+import com.siscon.demo.employee.dto.BulkLoadResultDTO;
+import com.siscon.demo.employee.dto.BulkResultDTO;
+import com.siscon.demo.employee.dto.EmployeeCreateDTO;
+import com.siscon.demo.employee.dto.EmployeeResultDTO;
+import com.siscon.demo.employee.dto.ImportJobDTO;
+import com.siscon.demo.employee.dto.UpsertResultDTO;
 import com.siscon.demo.employee.entity.Employee;
+import com.siscon.demo.employee.exception.CapacityExceededException;
+import com.siscon.demo.employee.exception.DuplicateResourceException;
+import com.siscon.demo.employee.exception.GlobalExceptionHandler;
+import com.siscon.demo.employee.exception.ResourceNotFoundException;
+import com.siscon.demo.employee.repository.EmployeeCopyRepository;
+import com.siscon.demo.employee.repository.EmployeeJdbcRepository;
 import com.siscon.demo.employee.repository.EmployeeRepository;
+import com.siscon.demo.employee.repository.EmployeeRepositoryCustomImpl;
+import com.siscon.demo.employee.service.EmployeeImportJobService;
+import com.siscon.demo.employee.service.EmployeeMetrics;
+import com.siscon.demo.employee.service.EmployeeService;
 import com.siscon.demo.employee.service.EmployeeServiceImpl;
+import com.siscon.demo.employee.service.EmployeeStreamService;
+import com.siscon.demo.employee.service.ImportExecutor;
+import com.siscon.demo.employee.service.ImportJob;
+import com.siscon.demo.employee.utility.KeysetCursor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 
 @ExtendWith(MockitoExtension.class)
 class ApplicationTests {
@@ -32,6 +97,35 @@ class ApplicationTests {
 	@Mock
 	private EmployeeRepository employeeRepository;
 	
+	@Mock
+	private EmployeeJdbcRepository employeeJdbcRepository;
+	
+	@Mock
+	private EmployeeCopyRepository employeeCopyRepository;
+	
+	@Mock
+	private PlatformTransactionManager transactionManager;
+	
+	@Mock
+	private Validator validator;
+	
+	@Mock
+	private EmployeeCache employeeCache;
+	
+	@Mock
+	private EmployeeInvalidationBus invalidationBus;
+	
+	@Mock
+	private DniMembershipFilter dniFilter;
+	
+	@Spy
+	private ImportExecutor importExecutor = new ImportExecutor(2, 10);
+	
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	
+	@Spy
+	private EmployeeMetrics employeeMetrics = new EmployeeMetrics(meterRegistry);
+	
 	@InjectMocks
 	private EmployeeServiceImpl employeeService;
 
@@ -81,4 +175,548 @@ class ApplicationTests {
 		assertNotNull(employee.getDni());
 		verify(employeeRepository).save(employee);
 	}
+	
+	@Test
+	void testSaveAllEmployeesInBatch() {
+		ReflectionTestUtils.setField(employeeService, "batchSize", 500);
+		List<Employee> employees = new ArrayList<>();
+		employees.add(new Employee("Daniel", "Tiro", null, null, "M", LocalDate.of(2000, 1, 1), "TIBD841213", "Software Development", true));
+		employees.add(new Employee("Juan", "Perez", null, null, "M", LocalDate.of(1984, 1, 1), "PEJJ841213", "Software Development", true));
+		employees.add(new Employee("Juan", "Perez", null, null, "M", LocalDate.of(1984, 1, 1), "pejj841213", "Software Development", true));
+		
+		when(dniFilter.mightContain(any())).thenReturn(true);
+		when(employeeRepository.findExistingDnis(anyCollection())).thenReturn(List.of("TIBD841213"));
+		List<EmployeeResultDTO> results = employeeService.save(employees);
+		
+		assertEquals(3, results.size());
+		assertEquals(500, results.get(0).getCode());
+		assertEquals("DuplicateResourceException: An employee with DNI 'TIBD841213' already exists", results.get(0).getMessage());
+		assertEquals(200, results.get(1).getCode());
+		assertNotNull(results.get(1).getId());
+		assertEquals(500, results.get(2).getCode());
+		verify(employeeJdbcRepository).insertAll(List.of(employees.get(1)), 500);
+	}
+	
+	@Test
+	void testSaveAllEmployeesFallsBackToSavepoints() {
+		ReflectionTestUtils.setField(employeeService, "batchSize", 500);
+		List<Employee> employees = new ArrayList<>();
+		employees.add(new Employee("Daniel", "Tiro", null, null, "M", LocalDate.of(2000, 1, 1), "TIBD841213", "Software Development", true));
+		employees.add(new Employee("Juan", "Perez", null, null, "M", LocalDate.of(1984, 1, 1), "PEJJ841213", "Software Development", true));
+		
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		doThrow(new DuplicateKeyException("batch")).when(employeeJdbcRepository).insertAll(any(), anyInt());
+		doThrow(new DuplicateKeyException("duplicate key")).when(employeeJdbcRepository).insertWithSavepoint(employees.get(0));
+		List<EmployeeResultDTO> results = employeeService.save(employees);
+		
+		assertEquals(500, results.get(0).getCode());
+		assertEquals(null, results.get(0).getId());
+		assertEquals("DuplicateResourceException: An employee with DNI 'TIBD841213' already exists", results.get(0).getMessage());
+		assertEquals(200, results.get(1).getCode());
+		verify(employeeJdbcRepository).insertWithSavepoint(employees.get(1));
+	}
+	
+	@Test
+	void testDniFilterAcceptsNullAndBlankDni() {
+		DniMembershipFilter filter = new DniMembershipFilter(org.mockito.Mockito.mock(javax.sql.DataSource.class), transactionManager, true, 1000, 0.01);
+		filter.put("tibd841213 ");
+		ReflectionTestUtils.setField(filter, "ready", true);
+		
+		assertTrue(filter.mightContain(null));
+		assertTrue(filter.mightContain(" "));
+		assertTrue(filter.mightContain("TIBD841213"));
+	}
+	
+	@Test
+	void testDniFilterStaysNotReadyWithoutNormalizedDnis() {
+		JdbcTemplate jdbcTemplate = org.mockito.Mockito.mock(JdbcTemplate.class);
+		DniMembershipFilter filter = new DniMembershipFilter(org.mockito.Mockito.mock(javax.sql.DataSource.class), transactionManager, true, 1000, 0.01);
+		ReflectionTestUtils.setField(filter, "jdbcTemplate", jdbcTemplate);
+		when(jdbcTemplate.queryForObject(org.mockito.ArgumentMatchers.anyString(), eq(Long.class))).thenReturn(2L);
+		
+		ReflectionTestUtils.invokeMethod(filter, "load");
+		
+		assertEquals(false, ReflectionTestUtils.getField(filter, "ready"));
+		assertTrue(filter.mightContain("PEJJ841213"));
+		verify(jdbcTemplate, never()).query(org.mockito.ArgumentMatchers.anyString(), any(org.springframework.jdbc.core.RowCallbackHandler.class));
+	}
+	
+	@Test
+	void testBulkLoadReportsDuplicates() {
+		List<Employee> employees = new ArrayList<>();
+		employees.add(new Employee("Daniel", "Tiro", null, null, "M", LocalDate.of(2000, 1, 1), "TIBD841213", "Software Development", true));
+		employees.add(new Employee("Juan", "Perez", null, null, "M", LocalDate.of(1984, 1, 1), "PEJJ841213", "Software Development", true));
+		
+		when(employeeCopyRepository.copyAndMerge(employees)).thenReturn(new boolean[] { true, false });
+		List<EmployeeResultDTO> results = employeeService.bulkLoad(employees);
+		
+		assertEquals(200, results.get(0).getCode());
+		assertNotNull(results.get(0).getId());
+		assertEquals(500, results.get(1).getCode());
+		assertEquals("DuplicateResourceException: An employee with DNI 'PEJJ841213' already exists", results.get(1).getMessage());
+		assertEquals(1.0, meterRegistry.get("employee.import.rows").tags("mode", "bulk_load", "outcome", "saved").counter().count());
+		assertEquals(1.0, meterRegistry.get("employee.import.rows").tags("mode", "bulk_load", "outcome", "failed").counter().count());
+	}
+	
+	@Test
+	void testUpsertReportsOutcomePerEmployee() {
+		ReflectionTestUtils.setField(employeeService, "batchSize", 500);
+		UUID existing = UUID.randomUUID();
+		List<Employee> employees = new ArrayList<>();
+		employees.add(new Employee("Daniel", "Tiro", null, null, "M", LocalDate.of(2000, 1, 1), "TIBD841213", "Software Development", true));
+		employees.add(new Employee("Juan", "Perez", null, null, "M", LocalDate.of(1984, 1, 1), "PEJJ841213", "Software Development", true));
+		employees.add(new Employee("Juan", "Perez", null, null, "M", LocalDate.of(1984, 1, 1), "pejj841213", "Software Development", true));
+		employees.add(new Employee("Ana", "Lopez", null, null, "F", LocalDate.of(1990, 1, 1), "LOAA900101", "Software Development", true));
+		
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		when(employeeJdbcRepository.upsertAll(List.of(employees.get(0), employees.get(1), employees.get(3)))).thenAnswer(invocation -> {
+			employees.get(1).setId(existing);
+			return new EmployeeJdbcRepository.UpsertOutcome[] { EmployeeJdbcRepository.UpsertOutcome.INSERTED,
+					EmployeeJdbcRepository.UpsertOutcome.UPDATED, EmployeeJdbcRepository.UpsertOutcome.UNCHANGED };
+		});
+		UpsertResultDTO result = employeeService.upsert(employees);
+		
+		assertEquals(1, result.getInserted());
+		assertEquals(1, result.getUpdated());
+		assertEquals(1, result.getUnchanged());
+		assertEquals(1, result.getFailed());
+		assertThat(result.getResults()).extracting(EmployeeResultDTO::getMessage).containsExactly("INSERTED", "UPDATED",
+				"DuplicateResourceException: An employee with DNI 'pejj841213' already exists", "UNCHANGED");
+		assertEquals(existing, result.getResults().get(1).getId());
+		verify(employeeCache).evictAllAfterCommit(List.of(existing));
+		verify(invalidationBus).publish(List.of(existing));
+		verify(dniFilter).put("TIBD841213");
+		verify(dniFilter, never()).put("LOAA900101");
+	}
+	
+	@Test
+	void testImportStreamKeepsInputOrder() throws Exception {
+		EmployeeService service = org.mockito.Mockito.mock(EmployeeService.class);
+		ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+		EmployeeStreamService streamService = new EmployeeStreamService(service, employeeRepository, null, objectMapper, Validation.buildDefaultValidatorFactory().getValidator());
+		ReflectionTestUtils.setField(streamService, "chunkSize", 10);
+		String ndjson = "{\"name\":\"Daniel\",\"firstname\":\"Tiro\",\"birthdate\":\"2000-01-01\",\"genre\":\"M\",\"position\":\"Dev\",\"dni\":\"TIBD841213\",\"active\":true}\n"
+				+ "{\"name\":\"Juan\",\"firstname\":\"Perez\",\"genre\":\"M\",\"active\":true}\n";
+		when(service.save(anyList())).thenReturn(List.of(new EmployeeResultDTO("TIBD841213", UUID.randomUUID(), 200, "OK")));
+		
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		streamService.importRecords(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), false, out);
+		
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(2, lines.length);
+		assertEquals(200, objectMapper.readTree(lines[0]).get("code").asInt());
+		assertEquals(500, objectMapper.readTree(lines[1]).get("code").asInt());
+	}
+	
+	@Test
+	void testExportStreamsCsvWithHeaderAndEscaping() throws Exception {
+		EntityManager entityManager = org.mockito.Mockito.mock(EntityManager.class);
+		EmployeeStreamService streamService = new EmployeeStreamService(employeeService, employeeRepository, entityManager, new ObjectMapper().findAndRegisterModules(), validator);
+		EmployeeController controller = new EmployeeController(employeeService, streamService, null, null);
+		Employee employee = new Employee("Daniel", "Tiro", "Bravo, Jr.", null, "M", LocalDate.of(2000, 1, 1), "TIBD841213", "Java \"Senior\" Dev", true);
+		when(employeeRepository.streamAll()).thenReturn(java.util.stream.Stream.of(employee));
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		controller.export("csv", response);
+
+		assertEquals(EmployeeController.CSV_VALUE, response.getContentType());
+		String[] lines = response.getContentAsString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(2, lines.length);
+		assertEquals("active,age,birthdate,createdAt,deletedAt,dni,firstname,genre,id,lastname,middlename,name,position,updatedAt", lines[0]);
+		assertTrue(lines[1].contains("\"Bravo, Jr.\""));
+		assertTrue(lines[1].contains("\"Java \"\"Senior\"\" Dev\""));
+		verify(entityManager).detach(employee);
+	}
+
+	@Test
+	void testExportEmptyResult() throws Exception {
+		EmployeeStreamService streamService = new EmployeeStreamService(employeeService, employeeRepository, null, new ObjectMapper().findAndRegisterModules(), validator);
+		EmployeeController controller = new EmployeeController(employeeService, streamService, null, null);
+		when(employeeRepository.streamAll()).thenReturn(java.util.stream.Stream.empty(), java.util.stream.Stream.empty());
+
+		MockHttpServletResponse ndjson = new MockHttpServletResponse();
+		controller.export("ndjson", ndjson);
+		MockHttpServletResponse csv = new MockHttpServletResponse();
+		controller.export("csv", csv);
+
+		assertEquals(EmployeeController.NDJSON_VALUE, ndjson.getContentType());
+		assertEquals("", ndjson.getContentAsString(StandardCharsets.UTF_8));
+		assertEquals(EmployeeController.CSV_VALUE, csv.getContentType());
+		assertEquals("active,age,birthdate,createdAt,deletedAt,dni,firstname,genre,id,lastname,middlename,name,position,updatedAt", csv.getContentAsString(StandardCharsets.UTF_8).trim());
+	}
+
+	@Test
+	void testBulkLoadStreamCommitsInChunksAndReportsRejectedRowsOnly() throws Exception {
+		EmployeeService service = org.mockito.Mockito.mock(EmployeeService.class);
+		EmployeeStreamService streamService = new EmployeeStreamService(service, employeeRepository, null, new ObjectMapper().findAndRegisterModules(), Validation.buildDefaultValidatorFactory().getValidator());
+		ReflectionTestUtils.setField(streamService, "bulkLoadChunkSize", 2);
+		ReflectionTestUtils.setField(streamService, "maxRejectedRows", 1);
+		String csv = "name,firstname,birthdate,genre,position,dni,active\n"
+				+ "Daniel,Tiro,2000-01-01,M,Dev,TIBD841213,true\n"
+				+ "Juan,,1984-01-01,M,Dev,PEJJ841213,true\n"
+				+ "Ana,Lopez,1990-01-01,F,Dev,TIBD841213,true\n"
+				+ "Luis,Diaz,1990-01-01,M,Dev,DILL900101,true\n";
+		when(service.bulkLoad(anyList())).thenAnswer(invocation -> {
+			List<Employee> employees = invocation.getArgument(0);
+			List<EmployeeResultDTO> results = new ArrayList<>();
+			employees.forEach(employee -> results.add("Ana".equals(employee.getName())
+					? new EmployeeResultDTO(employee.getDni(), null, 500, "DuplicateResourceException: An employee with DNI 'TIBD841213' already exists")
+					: new EmployeeResultDTO(employee.getDni(), UUID.randomUUID(), 200, "OK")));
+			return results;
+		});
+
+		BulkLoadResultDTO result = streamService.bulkLoadRecords(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), true);
+
+		assertEquals(2, result.getLoaded());
+		assertEquals(2, result.getRejected());
+		assertEquals(1, result.getRejectedRows().size());
+		assertEquals(2, result.getRejectedRows().get(0).getRow());
+		assertEquals("PEJJ841213", result.getRejectedRows().get(0).getDni());
+		assertEquals(null, result.getError());
+		verify(service, times(2)).bulkLoad(anyList());
+	}
+
+	@Test
+	void testBulkLoadStreamStopsAtUnreadableRow() throws Exception {
+		EmployeeService service = org.mockito.Mockito.mock(EmployeeService.class);
+		EmployeeStreamService streamService = new EmployeeStreamService(service, employeeRepository, null, new ObjectMapper().findAndRegisterModules(), Validation.buildDefaultValidatorFactory().getValidator());
+		ReflectionTestUtils.setField(streamService, "bulkLoadChunkSize", 10);
+		ReflectionTestUtils.setField(streamService, "maxRejectedRows", 10);
+		String ndjson = "{\"name\":\"Daniel\",\"firstname\":\"Tiro\",\"birthdate\":\"2000-01-01\",\"genre\":\"M\",\"position\":\"Dev\",\"dni\":\"TIBD841213\",\"active\":true}\n"
+				+ "{\"name\":\"Juan\",\n";
+		when(service.bulkLoad(anyList())).thenReturn(List.of(new EmployeeResultDTO("TIBD841213", UUID.randomUUID(), 200, "OK")));
+
+		BulkLoadResultDTO result = streamService.bulkLoadRecords(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), false);
+
+		assertEquals(1, result.getLoaded());
+		assertTrue(result.getError().startsWith("Row 2 could not be read"));
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void testFindAllFieldsSelectsOnlyRequestedFields() {
+		EntityManager entityManager = org.mockito.Mockito.mock(EntityManager.class);
+		CriteriaBuilder cb = org.mockito.Mockito.mock(CriteriaBuilder.class);
+		CriteriaQuery query = org.mockito.Mockito.mock(CriteriaQuery.class);
+		Root root = org.mockito.Mockito.mock(Root.class, org.mockito.Mockito.RETURNS_DEEP_STUBS);
+		TypedQuery typedQuery = org.mockito.Mockito.mock(TypedQuery.class);
+		Tuple tuple = org.mockito.Mockito.mock(Tuple.class);
+		UUID id = UUID.randomUUID();
+		when(entityManager.getCriteriaBuilder()).thenReturn(cb);
+		when(cb.createTupleQuery()).thenReturn(query);
+		when(query.from(Employee.class)).thenReturn(root);
+		when(entityManager.createQuery(query)).thenReturn(typedQuery);
+		when(typedQuery.getResultList()).thenReturn(List.of(tuple));
+		when(tuple.get("dni")).thenReturn("TIBD841213");
+		when(tuple.get("id")).thenReturn(id);
+		EmployeeRepositoryCustomImpl repository = new EmployeeRepositoryCustomImpl();
+		ReflectionTestUtils.setField(repository, "entityManager", entityManager);
+
+		Page<Map<String, Object>> page = repository.findAllFields(List.of("dni", "id"), PageRequest.of(0, 10));
+
+		assertEquals(1, page.getTotalElements());
+		assertEquals(List.of("dni", "id"), new ArrayList<>(page.getContent().get(0).keySet()));
+		assertEquals("TIBD841213", page.getContent().get(0).get("dni"));
+		assertEquals(id, page.getContent().get(0).get("id"));
+		verify(root).get("dni");
+		verify(root).get("id");
+		verify(typedQuery).setFirstResult(0);
+		verify(typedQuery).setMaxResults(10);
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void testFindAllFieldsSelectsRepeatedFieldOnce() {
+		EntityManager entityManager = org.mockito.Mockito.mock(EntityManager.class);
+		CriteriaBuilder cb = org.mockito.Mockito.mock(CriteriaBuilder.class);
+		CriteriaQuery query = org.mockito.Mockito.mock(CriteriaQuery.class);
+		Root root = org.mockito.Mockito.mock(Root.class, org.mockito.Mockito.RETURNS_DEEP_STUBS);
+		TypedQuery typedQuery = org.mockito.Mockito.mock(TypedQuery.class);
+		Tuple tuple = org.mockito.Mockito.mock(Tuple.class);
+		when(entityManager.getCriteriaBuilder()).thenReturn(cb);
+		when(cb.createTupleQuery()).thenReturn(query);
+		when(query.from(Employee.class)).thenReturn(root);
+		when(entityManager.createQuery(query)).thenReturn(typedQuery);
+		when(typedQuery.getResultList()).thenReturn(List.of(tuple));
+		when(tuple.get("name")).thenReturn("Daniel");
+		when(tuple.get("dni")).thenReturn("TIBD841213");
+		EmployeeRepositoryCustomImpl repository = new EmployeeRepositoryCustomImpl();
+		ReflectionTestUtils.setField(repository, "entityManager", entityManager);
+
+		Page<Map<String, Object>> page = repository.findAllFields(List.of("name", "dni", "name"), PageRequest.of(0, 10));
+
+		assertEquals(List.of("name", "dni"), new ArrayList<>(page.getContent().get(0).keySet()));
+		verify(root, times(1)).get("name");
+		verify(root, times(1)).get("dni");
+	}
+
+	@Test
+	void testFindAllFieldsRejectsUnknownField() {
+		EntityManager entityManager = org.mockito.Mockito.mock(EntityManager.class);
+		EmployeeRepositoryCustomImpl repository = new EmployeeRepositoryCustomImpl();
+		ReflectionTestUtils.setField(repository, "entityManager", entityManager);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> repository.findAllFields(List.of("dni", "salary"), PageRequest.of(0, 10)));
+		assertThrows(IllegalArgumentException.class, () -> repository.findAllFields(List.of(), PageRequest.of(0, 10)));
+
+		assertTrue(e.getMessage().startsWith("Unknown field: salary"));
+		assertEquals(400, new GlobalExceptionHandler().handleIllegalArgumentException(e).getStatusCode().value());
+		org.mockito.Mockito.verifyNoInteractions(entityManager);
+	}
+
+	@Test
+	void testUpsertRejectsEmployeeWithoutActive() {
+		EmployeeService service = org.mockito.Mockito.mock(EmployeeService.class);
+		EmployeeController controller = new EmployeeController(service, null, null, null);
+		EmployeeCreateDTO withActive = createDTO("TIBD841213", true);
+		EmployeeCreateDTO withoutActive = createDTO("PEJJ841213", null);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> controller.upsert(List.of(withActive, withoutActive)));
+
+		assertEquals("Employee at position 1 (DNI 'PEJJ841213') has no active value", e.getMessage());
+		assertEquals(400, new GlobalExceptionHandler().handleIllegalArgumentException(e).getStatusCode().value());
+		verify(service, never()).upsert(any());
+		assertTrue(withoutActive.toEmployee().isActive());
+	}
+
+	@Test
+	void testFindAllWithFieldsReturnsProjectionWithoutCacheHeaders() {
+		EmployeeService service = org.mockito.Mockito.mock(EmployeeService.class);
+		EmployeeController controller = new EmployeeController(service, null, null, null);
+		PageRequest pageable = PageRequest.of(0, 10);
+		Map<String, Object> row = new LinkedHashMap<>();
+		row.put("name", "Daniel");
+		when(service.findAll(List.of("name"), pageable)).thenReturn(new PageImpl<>(List.of(row), pageable, 1));
+
+		ResponseEntity<Page<?>> response = controller.findAll(pageable, List.of("name"));
+
+		assertEquals(List.of(row), response.getBody().getContent());
+		assertTrue(response.getHeaders().getETag() == null);
+		assertTrue(response.getHeaders().getCacheControl() == null);
+		verify(service, never()).findAll(pageable);
+	}
+
+	@Test
+	void testKeysetCursorRoundTrip() {
+		UUID id = UUID.randomUUID();
+		KeysetCursor first = KeysetCursor.first("createdAt", Direction.DESC);
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("createdAt", LocalDateTime.of(2024, 5, 1, 10, 30));
+		keys.put("id", id);
+		
+		KeysetCursor next = KeysetCursor.decode(first.encode(ScrollPosition.forward(keys)));
+		assertEquals(keys, next.getPosition().getKeys());
+		assertEquals(Sort.by(Direction.DESC, "createdAt").and(Sort.by(Direction.DESC, "id")), next.getSort());
+		assertThrows(IllegalArgumentException.class, () -> KeysetCursor.first("lastname", Direction.ASC));
+		assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not-a-cursor"));
+	}
+	
+	@Test
+	void testFindByIdUsesCache() {
+		Employee employee = new Employee("Daniel", "Tiro", null, null, "M", LocalDate.of(2000, 1, 1), "TIBD841213", "Software Development", true);
+		employee.setId(UUID.randomUUID());
+		when(employeeCache.getById(employee.getId())).thenReturn(Optional.empty(), Optional.of(employee));
+		when(employeeCache.generation()).thenReturn(7L);
+		when(employeeRepository.findByIdAndActiveTrue(employee.getId())).thenReturn(Optional.of(employee));
+		
+		assertEquals(employee, employeeService.findById(employee.getId()));
+		assertEquals(employee, employeeService.findById(employee.getId()));
+		verify(employeeRepository, times(1)).findByIdAndActiveTrue(employee.getId());
+		verify(employeeCache).putIfCurrent(employee, 7L);
+		verify(employeeCache, never()).put(any());
+	}
+	
+	@Test
+	void testSaveEmployeeSkipsDuplicateQueryForUnknownDni() {
+		Employee employee = new Employee("Daniel", "Tiro", null, null, "M", LocalDate.of(2000, 1, 1), "tibd841213 ", "Software Development", true);
+		when(employeeRepository.save(employee)).thenReturn(employee);
+		employeeService.save(employee);
+		verify(employeeRepository, never()).existsByDniNormalized(any());
+		
+		Employee duplicate = new Employee("Daniel", "Tiro", null, null, "M", LocalDate.of(2000, 1, 1), "TIBD841213", "Software Development", true);
+		when(dniFilter.mightContain("TIBD841213")).thenReturn(true);
+		when(employeeRepository.existsByDniNormalized("TIBD841213")).thenReturn(true);
+		assertThrows(DuplicateResourceException.class, () -> employeeService.save(duplicate));
+	}
+	
+	@Test
+	void testUpdateEmployeeKeepsActive() {
+		Employee existing = new Employee("Daniel", "Tiro", null, null, "M", LocalDate.of(2000, 1, 1), "TIBD841213", "Software Development", true);
+		existing.setId(UUID.randomUUID());
+		Employee changes = new Employee();
+		changes.setId(existing.getId());
+		changes.setPosition("Architect");
+		when(employeeRepository.findById(existing.getId())).thenReturn(Optional.of(existing));
+		when(employeeRepository.save(existing)).thenReturn(existing);
+		employeeService.update(changes);
+		assertTrue(existing.isActive());
+		assertEquals("Architect", existing.getPosition());
+	}
+	
+	@Test
+	void testPatchEmployee() {
+		UUID id = UUID.randomUUID();
+		Map<String, Object> changes = Map.of("position", "Architect");
+		when(employeeJdbcRepository.update(id, changes)).thenReturn(1);
+		assertTrue(employeeService.patch(id, changes, false).isEmpty());
+		verify(employeeRepository, never()).findById(any());
+		verify(employeeCache).evictAfterCommit(id);
+		
+		UUID missing = UUID.randomUUID();
+		when(employeeJdbcRepository.updateReturning(missing, changes)).thenReturn(Optional.empty());
+		assertThrows(ResourceNotFoundException.class, () -> employeeService.patch(missing, changes, true));
+		assertThrows(IllegalArgumentException.class, () -> employeeService.patch(id, Map.of(), false));
+	}
+	
+	@Test
+	void testDeleteAllReturnsOutcomePerId() {
+		UUID deleted = UUID.randomUUID();
+		UUID alreadyDeleted = UUID.randomUUID();
+		UUID missing = UUID.randomUUID();
+		ReflectionTestUtils.setField(employeeService, "bulkMaxIds", 10);
+		when(employeeJdbcRepository.setActive(anyCollection(), eq(false))).thenReturn(Map.of(deleted, true, alreadyDeleted, false));
+		
+		List<BulkResultDTO> results = employeeService.deleteAll(List.of(missing, deleted, alreadyDeleted, deleted), null);
+		
+		assertThat(results).extracting(BulkResultDTO::getId).containsExactly(missing, deleted, alreadyDeleted);
+		assertThat(results).extracting(BulkResultDTO::getStatus).containsExactly(
+				BulkResultDTO.Status.NOT_FOUND, BulkResultDTO.Status.DELETED, BulkResultDTO.Status.ALREADY_DELETED);
+		verify(employeeCache).evictAllAfterCommit(List.of(deleted));
+		verify(invalidationBus).publish(List.of(deleted));
+		assertThrows(IllegalArgumentException.class, () -> employeeService.deleteAll(List.of(deleted), "Java Programmer"));
+	}
+	
+	@Test
+	void testFindAllByDniKeyedByInput() {
+		ReflectionTestUtils.setField(employeeService, "lookupMaxKeys", 10);
+		Employee cached = new Employee("Daniel", "Tiro", null, null, "M", LocalDate.of(2000, 1, 1), "TIBD841213", "Software Development", true);
+		cached.setId(UUID.randomUUID());
+		Employee stored = new Employee("Juan", "Perez", null, null, "M", LocalDate.of(1984, 1, 1), "PEJJ841213", "Software Development", true);
+		ReflectionTestUtils.invokeMethod(stored, "normalizeDni");
+		when(employeeCache.getIdByDni(any())).thenReturn(Optional.empty());
+		when(employeeCache.getIdByDni("TIBD841213")).thenReturn(Optional.of(cached.getId()));
+		when(employeeCache.getById(cached.getId())).thenReturn(Optional.of(cached));
+		when(employeeRepository.findByDniNormalizedInAndActiveTrue(List.of("PEJJ841213", "XXXX000000"))).thenReturn(List.of(stored));
+		
+		Map<String, Employee> result = employeeService.findAllByDni(List.of("tibd841213", "pejj841213", "PEJJ841213 ", "XXXX000000"));
+		
+		assertThat(result).containsOnlyKeys("tibd841213", "pejj841213", "PEJJ841213 ", "XXXX000000");
+		assertEquals(cached, result.get("tibd841213"));
+		assertEquals(stored, result.get("pejj841213"));
+		assertEquals(stored, result.get("PEJJ841213 "));
+		assertTrue(result.containsKey("XXXX000000"));
+		assertEquals(null, result.get("XXXX000000"));
+	}
+	
+	@Test
+	void testImportJobRunsInBackground() throws Exception {
+		EmployeeService service = org.mockito.Mockito.mock(EmployeeService.class);
+		EmployeeStreamService streamService = new EmployeeStreamService(service, employeeRepository, null, new ObjectMapper().findAndRegisterModules(), Validation.buildDefaultValidatorFactory().getValidator());
+		ReflectionTestUtils.setField(streamService, "chunkSize", 10);
+		EmployeeImportJobService jobService = new EmployeeImportJobService(streamService, 1, 1, Duration.ofHours(1), 1, Duration.ofHours(1));
+		String ndjson = "{\"name\":\"Daniel\",\"firstname\":\"Tiro\",\"birthdate\":\"2000-01-01\",\"genre\":\"M\",\"position\":\"Dev\",\"dni\":\"TIBD841213\",\"active\":true}\n"
+				+ "{\"name\":\"Juan\",\"genre\":\"M\",\"dni\":\"PEJJ841213\",\"active\":true}\n"
+				+ "{\"name\":\"Ana\",\"genre\":\"F\",\"dni\":\"LOAA900101\",\"active\":true}\n";
+		when(service.save(anyList())).thenReturn(List.of(new EmployeeResultDTO("TIBD841213", UUID.randomUUID(), 200, "OK")));
+		
+		ImportJob job = jobService.submit(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), false);
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!"COMPLETED".equals(jobService.find(job.getId()).toDTO(0, 10).getStatus()) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		jobService.destroy();
+		
+		ImportJobDTO jobDTO = job.toDTO(0, 10);
+		assertEquals("COMPLETED", jobDTO.getStatus());
+		assertEquals(3, jobDTO.getProcessed());
+		assertEquals(1, jobDTO.getSucceeded());
+		assertEquals(2, jobDTO.getFailed());
+		assertEquals(1, jobDTO.getFailedRows().size());
+		assertEquals(2, jobDTO.getFailedRows().get(0).getRow());
+		assertEquals("PEJJ841213", jobDTO.getFailedRows().get(0).getDni());
+		assertThrows(ResourceNotFoundException.class, () -> jobService.find(UUID.randomUUID()));
+	}
+	
+	@Test
+	void testImportJobRejectedBeforeReadingWhenFull() throws Exception {
+		EmployeeStreamService streamService = org.mockito.Mockito.mock(EmployeeStreamService.class);
+		java.util.concurrent.CountDownLatch release = new java.util.concurrent.CountDownLatch(1);
+		org.mockito.Mockito.doAnswer(invocation -> {
+			release.await();
+			return null;
+		}).when(streamService).importRecords(any(), eq(false), any(EmployeeStreamService.ImportListener.class));
+		EmployeeImportJobService jobService = new EmployeeImportJobService(streamService, 1, 0, Duration.ZERO, 10, Duration.ofMillis(20));
+		
+		ImportJob running = jobService.submit(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)), false);
+		java.io.InputStream rejected = org.mockito.Mockito.mock(java.io.InputStream.class);
+		assertThrows(CapacityExceededException.class, () -> jobService.submit(rejected, false));
+		org.mockito.Mockito.verifyNoInteractions(rejected);
+		
+		release.countDown();
+		long deadline = System.currentTimeMillis() + 5000;
+		boolean purged = false;
+		while (!purged && System.currentTimeMillis() < deadline) {
+			try {
+				jobService.find(running.getId());
+				Thread.sleep(10);
+			} catch (ResourceNotFoundException e) {
+				purged = true;
+			}
+		}
+		assertTrue(purged);
+		assertNotNull(jobService.submit(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)), false));
+		jobService.destroy();
+	}
+	
+	@Test
+	void testSaveParallelKeepsInputOrder() {
+		ReflectionTestUtils.setField(employeeService, "batchSize", 2);
+		List<Employee> employees = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			employees.add(new Employee("Daniel", "Tiro", null, null, "M", LocalDate.of(2000, 1, 1), "TIBD84121" + i, "Software Development", true));
+		}
+		employees.add(2, new Employee("Daniel", "Tiro", null, null, "M", LocalDate.of(2000, 1, 1), "tibd841210", "Software Development", true));
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		
+		List<EmployeeResultDTO> results = employeeService.saveParallel(employees);
+		
+		assertThat(results).extracting(EmployeeResultDTO::getDni)
+			.containsExactly("TIBD841210", "TIBD841211", "tibd841210", "TIBD841212", "TIBD841213", "TIBD841214");
+		assertThat(results).extracting(EmployeeResultDTO::getCode).containsExactly(200, 200, 500, 200, 200, 200);
+		verify(employeeJdbcRepository, times(3)).insertAll(anyList(), eq(2));
+	}
+	
+	@Test
+	void testSaveParallelKeepsValidRowAfterInvalidRowWithSameDni() {
+		ReflectionTestUtils.setField(employeeService, "batchSize", 2);
+		List<Employee> employees = new ArrayList<>();
+		employees.add(new Employee("", "Tiro", null, null, "M", LocalDate.of(2000, 1, 1), "TIBD841210", "Software Development", true));
+		for (int i = 0; i < 5; i++) {
+			employees.add(new Employee("Daniel", "Tiro", null, null, "M", LocalDate.of(2000, 1, 1), "TIBD84121" + i, "Software Development", true));
+		}
+		@SuppressWarnings("unchecked")
+		ConstraintViolation<Employee> blankName = org.mockito.Mockito.mock(ConstraintViolation.class);
+		when(blankName.getMessage()).thenReturn("must not be blank");
+		when(validator.validate(employees.get(0))).thenReturn(Set.of(blankName));
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		
+		List<EmployeeResultDTO> results = employeeService.saveParallel(employees);
+		
+		assertThat(results).extracting(EmployeeResultDTO::getCode).containsExactly(500, 200, 200, 200, 200, 200);
+		assertThat(results.get(0).getMessage()).doesNotContain("already exists");
+		assertEquals(employees.get(1).getId(), results.get(1).getId());
+		verify(employeeJdbcRepository, times(3)).insertAll(anyList(), eq(2));
+	}
+
+	private static EmployeeCreateDTO createDTO(String dni, Boolean active) {
+		EmployeeCreateDTO dto = new EmployeeCreateDTO();
+		dto.setName("Daniel");
+		dto.setFirstname("Tiro");
+		dto.setBirthdate(LocalDate.of(1984, 12, 13));
+		dto.setDni(dni);
+		dto.setActive(active);
+		return dto;
+	}
 }
@@ -0,0 +1,62 @@
+package com.siscon.demo.employee.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.siscon.demo.employee.entity.Employee;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EmployeeCacheTests {
+
+	private final EmployeeCache cache = new EmployeeCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+
+	@Test
+	void testStaleReadIsNotCachedAfterInvalidation() {
+		Employee stale = employee("Software Development");
+		long generation = cache.generation();
+		cache.evict(stale.getId());
+
+		assertFalse(cache.putIfCurrent(stale, generation));
+		assertTrue(cache.getById(stale.getId()).isEmpty());
+		assertTrue(cache.getIdByDni("tibd841213").isEmpty());
+	}
+
+	@Test
+	void testReadDoesNotReplaceNewerEntry() {
+		Employee stale = employee("Software Development");
+		long generation = cache.generation();
+		Employee updated = stale.copy();
+		updated.setPosition("Java Architect");
+		cache.put(updated);
+
+		assertFalse(cache.putIfCurrent(stale, generation));
+		assertFalse(cache.putIfCurrent(stale, cache.generation()));
+		assertEquals("Java Architect", cache.getById(stale.getId()).get().getPosition());
+	}
+
+	@Test
+	void testCachedEmployeeIsACopy() {
+		Employee employee = employee("Software Development");
+		assertTrue(cache.putIfCurrent(employee, cache.generation()));
+		employee.setPosition("Changed after caching");
+		cache.getById(employee.getId()).get().setPosition("Changed by a reader");
+
+		Employee cached = cache.getById(employee.getId()).get();
+		assertEquals("Software Development", cached.getPosition());
+		assertNotSame(cached, cache.getById(employee.getId()).get());
+		assertEquals(employee.getId(), cache.getIdByDni("TIBD841213").get());
+	}
+
+	private static Employee employee(String position) {
+		return new Employee(UUID.randomUUID(), "Daniel", null, "Tiro", null, "M", LocalDate.of(2000, 1, 1), "TIBD841213", position, true);
+	}
+}
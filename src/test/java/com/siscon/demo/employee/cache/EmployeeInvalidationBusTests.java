@@ -0,0 +1,90 @@
+package com.siscon.demo.employee.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.siscon.demo.employee.Application;
+import com.siscon.demo.employee.entity.Employee;
+import com.siscon.demo.employee.service.EmployeeService;
+
+class EmployeeInvalidationBusTests {
+
+	@Test
+	void testPayloadsStayUnderNotifyLimit() {
+		EmployeeCache cache = mock(EmployeeCache.class);
+		EmployeeInvalidationBus bus = new EmployeeInvalidationBus(cache, null, null, true, "channel", 500);
+		List<UUID> ids = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			ids.add(UUID.randomUUID());
+		}
+		
+		List<String> payloads = bus.payloads(ids);
+		assertTrue(payloads.size() > 1);
+		payloads.forEach(payload -> assertTrue(payload.length() <= EmployeeInvalidationBus.MAX_PAYLOAD_BYTES));
+		
+		bus.onNotification(payloads.get(0));
+		verify(cache, never()).evictAll(org.mockito.ArgumentMatchers.anyCollection());
+		bus.onNotification("other-node:" + ids.get(0) + "," + ids.get(1));
+		verify(cache).evictAll(List.of(ids.get(0), ids.get(1)));
+	}
+
+	/**
+	 * Dos contextos de la aplicación en la misma JVM contra un PostgreSQL desechable: una actualización
+	 * en el nodo A debe invalidar la caché del nodo B. Requiere Docker.
+	 */
+	@Test
+	void testUpdateOnOneNodeEvictsOtherNode() throws InterruptedException {
+		Assumptions.assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is not available");
+		try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")) {
+			postgres.start();
+			try (ConfigurableApplicationContext nodeA = startNode(postgres);
+					ConfigurableApplicationContext nodeB = startNode(postgres)) {
+				EmployeeService serviceA = nodeA.getBean(EmployeeService.class);
+				EmployeeService serviceB = nodeB.getBean(EmployeeService.class);
+				
+				Employee employee = serviceA.save(new Employee("Daniel", null, "Tiro", null, "M", LocalDate.of(2000, 1, 1), "TIBD841213", "Developer", true));
+				assertEquals("Developer", serviceB.findById(employee.getId()).getPosition());
+				
+				Employee changes = new Employee(employee.getId(), null, null, null, null, null, null, null, "Architect", true);
+				serviceA.update(changes);
+				
+				String position = null;
+				for (int i = 0; i < 50 && !"Architect".equals(position); i++) {
+					Thread.sleep(200);
+					position = serviceB.findById(employee.getId()).getPosition();
+				}
+				assertEquals("Architect", position);
+			}
+		}
+	}
+
+	/**
+	 * La configuración se pasa como argumentos de línea de comandos: las propiedades por defecto del builder
+	 * no reemplazan las de {@code application.properties}.
+	 */
+	private static ConfigurableApplicationContext startNode(PostgreSQLContainer<?> postgres) {
+		return new SpringApplicationBuilder(Application.class).run(
+				"--server.port=0",
+				"--spring.devtools.restart.enabled=false",
+				"--spring.datasource.url=" + postgres.getJdbcUrl(),
+				"--spring.datasource.username=" + postgres.getUsername(),
+				"--spring.datasource.password=" + postgres.getPassword(),
+				"--employee.outbox.publisher=memory",
+				"--employee.cache.invalidation.poll-millis=100");
+	}
+}
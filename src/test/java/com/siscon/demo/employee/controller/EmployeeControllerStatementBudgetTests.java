@@ -0,0 +1,90 @@
+package com.siscon.demo.employee.controller;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siscon.demo.employee.cache.EmployeeCache;
+
+/**
+ * Alta, actualización y consulta por id con {@code employee.request-timing.statement-budget.mode=fail} contra un
+ * PostgreSQL desechable: ninguna sentencia, incluido el {@code pg_notify} de la invalidación de caché, puede
+ * exceder el {@code @StatementBudget} del endpoint. Requiere Docker.
+ */
+@EnabledIf("dockerAvailable")
+@SpringBootTest(properties = { "employee.request-timing.statement-budget.mode=fail", "employee.outbox.publisher=memory" })
+@AutoConfigureMockMvc
+class EmployeeControllerStatementBudgetTests {
+
+	private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	private static final Pattern STATEMENTS = Pattern.compile("desc=\"(\\d+) statements\"");
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EmployeeCache employeeCache;
+
+	static boolean dockerAvailable() {
+		return DockerClientFactory.instance().isDockerAvailable();
+	}
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		POSTGRES.start();
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@Test
+	void testCreateUpdateAndGetStayWithinBudget() throws Exception {
+		MvcResult created = mockMvc.perform(post("/api/v1/employees").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\":\"Daniel\",\"firstname\":\"Tiro\",\"birthdate\":\"2000-01-01\",\"genre\":\"M\",\"position\":\"Developer\",\"dni\":\"TIBD841213\",\"active\":true}"))
+				.andExpect(status().isCreated())
+				.andReturn();
+		assertStatements(created, 2);
+		String id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+		MvcResult updated = mockMvc.perform(put("/api/v1/employees").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"id\":\"" + id + "\",\"name\":\"Daniel\",\"firstname\":\"Tiro\",\"birthdate\":\"2000-01-01\",\"genre\":\"M\",\"position\":\"Architect\",\"dni\":\"TIBD841213\",\"active\":true}"))
+				.andExpect(status().isOk())
+				.andReturn();
+		assertStatements(updated, 3);
+
+		employeeCache.clear();
+		assertStatements(mockMvc.perform(get("/api/v1/employees/" + id)).andExpect(status().isOk()).andReturn(), 1);
+		assertStatements(mockMvc.perform(get("/api/v1/employees/" + id)).andExpect(status().isOk()).andReturn(), 0);
+	}
+
+	private static void assertStatements(MvcResult result, int budget) {
+		String serverTiming = result.getResponse().getHeader("Server-Timing");
+		Matcher matcher = STATEMENTS.matcher(String.valueOf(serverTiming));
+		assertTrue(matcher.find(), "Server-Timing header: " + serverTiming);
+		int statements = Integer.parseInt(matcher.group(1));
+		assertTrue(statements <= budget, statements + " statements, budget " + budget);
+	}
+}
@@ -0,0 +1,158 @@
+package com.siscon.demo.employee.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.siscon.demo.employee.dto.EmployeeEventDTO;
+import com.siscon.demo.employee.repository.EmployeeOutboxRepository;
+import com.siscon.demo.employee.service.EmployeeMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EmployeeOutboxRelayTests {
+
+	private final EmployeeOutboxRepository outboxRepository = mock(EmployeeOutboxRepository.class);
+
+	@Test
+	void testRelayBatchPublishesDrainedEventsInOrder() {
+		InMemoryEmployeeEventPublisher publisher = new InMemoryEmployeeEventPublisher();
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		EmployeeOutboxRelay relay = new EmployeeOutboxRelay(outboxRepository, publisher, mock(DataSource.class),
+				new EmployeeMetrics(registry), true, 2, Duration.ofMillis(500), Duration.ofSeconds(10));
+		UUID id = UUID.randomUUID();
+		List<EmployeeEventDTO> events = List.of(event(1, EmployeeEventDTO.Type.CREATED, id), event(2, EmployeeEventDTO.Type.UPDATED, id));
+		when(outboxRepository.tryLock()).thenReturn(true);
+		when(outboxRepository.drain(2)).thenReturn(events);
+		
+		assertEquals(2, relay.relayBatch());
+		assertEquals(events, publisher.getEvents());
+		assertEquals(2.0, registry.get("employee.outbox.published").counter().count());
+	}
+
+	@Test
+	void testRelayBatchWaitsWhileAnotherInstanceHoldsTheLock() {
+		EmployeeOutboxRelay relay = new EmployeeOutboxRelay(outboxRepository, new InMemoryEmployeeEventPublisher(),
+				mock(DataSource.class), new EmployeeMetrics(new SimpleMeterRegistry()), true, 100, Duration.ofMillis(500), Duration.ofSeconds(10));
+		when(outboxRepository.tryLock()).thenReturn(false);
+		
+		assertEquals(0, relay.relayBatch());
+		verify(outboxRepository, never()).drain(anyInt());
+	}
+
+	@Test
+	void testPublishFailureRollsBackTheBatch() {
+		EmployeeEventPublisher publisher = events -> {
+			throw new IllegalStateException("Broker unavailable");
+		};
+		EmployeeOutboxRelay relay = new EmployeeOutboxRelay(outboxRepository, publisher, mock(DataSource.class),
+				new EmployeeMetrics(new SimpleMeterRegistry()), true, 100, Duration.ofMillis(500), Duration.ofSeconds(10));
+		when(outboxRepository.tryLock()).thenReturn(true);
+		when(outboxRepository.drain(100)).thenReturn(List.of(event(1, EmployeeEventDTO.Type.DELETED, UUID.randomUUID())));
+		
+		// La excepción debe salir de relayBatch para que la transacción se revierta y los eventos vuelvan al outbox
+		assertThrows(IllegalStateException.class, relay::relayBatch);
+	}
+
+	@Test
+	void testStopWaitsForTheBatchInProgress() throws SQLException, InterruptedException {
+		CountDownLatch publishing = new CountDownLatch(1);
+		AtomicBoolean published = new AtomicBoolean();
+		EmployeeOutboxRelay relay = startedRelay(publishing, published, 300, Duration.ofSeconds(10));
+		
+		assertTrue(publishing.await(5, TimeUnit.SECONDS));
+		relay.stop();
+		assertTrue(published.get());
+	}
+
+	@Test
+	void testStopGivesUpAfterTheShutdownTimeout() throws SQLException, InterruptedException {
+		CountDownLatch publishing = new CountDownLatch(1);
+		AtomicBoolean published = new AtomicBoolean();
+		EmployeeOutboxRelay relay = startedRelay(publishing, published, 1500, Duration.ofMillis(100));
+		
+		assertTrue(publishing.await(5, TimeUnit.SECONDS));
+		long start = System.nanoTime();
+		relay.stop();
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+		assertFalse(published.get());
+	}
+
+	@Test
+	void testFilePublisherAppendsOneJsonLinePerEvent(@TempDir Path directory) throws IOException {
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		Path path = directory.resolve("events/employee-events.ndjson");
+		UUID id = UUID.randomUUID();
+		try (FileEmployeeEventPublisher publisher = new FileEmployeeEventPublisher(objectMapper, path)) {
+			publisher.publish(List.of(event(1, EmployeeEventDTO.Type.CREATED, id)));
+			publisher.publish(List.of(event(2, EmployeeEventDTO.Type.UPDATED, id)));
+		}
+		
+		List<String> lines = Files.readAllLines(path);
+		assertEquals(2, lines.size());
+		JsonNode second = objectMapper.readTree(lines.get(1));
+		assertEquals(2, second.get("sequence").asLong());
+		assertEquals("UPDATED", second.get("type").asText());
+		assertEquals(id.toString(), second.get("employeeId").asText());
+		assertTrue(second.get("employee").isObject());
+		assertEquals("Architect", second.get("employee").get("position").asText());
+	}
+
+	/**
+	 * Inicia un relay cuyo publicador tarda {@code publishMillis} en publicar e ignora la interrupción, como
+	 * una escritura que no se puede cancelar.
+	 */
+	private EmployeeOutboxRelay startedRelay(CountDownLatch publishing, AtomicBoolean published, long publishMillis,
+			Duration shutdownTimeout) throws SQLException {
+		DataSource dataSource = mock(DataSource.class);
+		when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+		EmployeeEventPublisher publisher = events -> {
+			publishing.countDown();
+			long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(publishMillis);
+			while (System.nanoTime() < end) {
+				Thread.onSpinWait();
+			}
+			published.set(true);
+		};
+		EmployeeOutboxRelay relay = new EmployeeOutboxRelay(outboxRepository, publisher, dataSource,
+				new EmployeeMetrics(new SimpleMeterRegistry()), true, 100, Duration.ofMillis(500), shutdownTimeout);
+		when(outboxRepository.tryLock()).thenReturn(true);
+		when(outboxRepository.drain(100)).thenReturn(List.of(event(1, EmployeeEventDTO.Type.CREATED, UUID.randomUUID())));
+		relay.start();
+		return relay;
+	}
+
+	private static EmployeeEventDTO event(long sequence, EmployeeEventDTO.Type type, UUID id) {
+		return new EmployeeEventDTO(sequence, type, id, LocalDateTime.of(2025, 1, 1, 10, 0),
+				"{\"id\":\"" + id + "\",\"position\":\"Architect\"}");
+	}
+}
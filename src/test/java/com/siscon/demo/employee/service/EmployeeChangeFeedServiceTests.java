@@ -0,0 +1,259 @@
+package com.siscon.demo.employee.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.siscon.demo.employee.Application;
+import com.siscon.demo.employee.dto.ChangeFeedDTO;
+import com.siscon.demo.employee.dto.EmployeeChangeDTO;
+import com.siscon.demo.employee.entity.Employee;
+import com.siscon.demo.employee.exception.CapacityExceededException;
+import com.siscon.demo.employee.repository.EmployeeChangeRepository;
+import com.siscon.demo.employee.utility.ChangeCursor;
+
+class EmployeeChangeFeedServiceTests {
+
+	private final EmployeeChangeRepository changeRepository = mock(EmployeeChangeRepository.class);
+	private final Queue<SseEmitter> emitters = new ArrayDeque<>();
+	private EmployeeChangeFeedService feedService;
+
+	@AfterEach
+	void stopFeed() {
+		if (feedService != null) {
+			feedService.stop();
+		}
+	}
+
+	@Test
+	void testFindChangesReturnsNextCursorAndMore() {
+		feedService = feedService(2, Duration.ofMinutes(1));
+		ChangeCursor since = new ChangeCursor(5, 1);
+		when(changeRepository.findChanges(since, 2)).thenReturn(List.of(change(7, 1), change(7, 2)));
+
+		ChangeFeedDTO feed = feedService.findChanges(since.encode(), 2);
+		assertEquals(2, feed.getChanges().size());
+		assertEquals(new ChangeCursor(7, 2).encode(), feed.getNext());
+		assertTrue(feed.isMore());
+
+		when(changeRepository.findChanges(new ChangeCursor(7, 2), 2)).thenReturn(List.of(change(9, 1)));
+		feed = feedService.findChanges(feed.getNext(), 2);
+		assertEquals(new ChangeCursor(9, 1).encode(), feed.getNext());
+		assertFalse(feed.isMore());
+	}
+
+	@Test
+	void testFindChangesWithoutNewChangesKeepsCursor() {
+		feedService = feedService(2, Duration.ofMinutes(1));
+
+		ChangeFeedDTO feed = feedService.findChanges(new ChangeCursor(7, 2).encode(), 2);
+		assertTrue(feed.getChanges().isEmpty());
+		assertEquals(new ChangeCursor(7, 2).encode(), feed.getNext());
+		assertFalse(feed.isMore());
+
+		feed = feedService.findChanges(null, 2);
+		verify(changeRepository).findChanges(ChangeCursor.FIRST, 2);
+		assertEquals(ChangeCursor.FIRST.encode(), feed.getNext());
+	}
+
+	@Test
+	void testFindChangesRejectsSizeOutOfRange() {
+		feedService = feedService(2, Duration.ofMinutes(1));
+
+		assertThrows(IllegalArgumentException.class, () -> feedService.findChanges(null, 0));
+		assertThrows(IllegalArgumentException.class, () -> feedService.findChanges(null, 1001));
+		verify(changeRepository, never()).findChanges(any(), anyInt());
+	}
+
+	@Test
+	void testSubscribersAreCapped() {
+		feedService = feedService(1, Duration.ofMinutes(1));
+		emitters.add(new TestEmitter(0));
+
+		assertThrows(CapacityExceededException.class, () -> feedService.subscribe(null));
+		feedService.start();
+		feedService.subscribe(null);
+		assertThrows(CapacityExceededException.class, () -> feedService.subscribe(null));
+		assertEquals(1, feedService.getSubscriberCount());
+	}
+
+	@Test
+	void testPollQueriesOncePerCursorAndSendsToEverySubscriber() throws InterruptedException {
+		feedService = feedService(100, Duration.ofMinutes(1));
+		TestEmitter first = new TestEmitter(0);
+		TestEmitter second = new TestEmitter(0);
+		feedService.start();
+		subscribe(first, second);
+
+		when(changeRepository.findChanges(eq(ChangeCursor.FIRST), anyInt())).thenReturn(List.of(change(7, 1), change(7, 2)));
+		feedService.poll();
+
+		verify(changeRepository, times(1)).findChanges(eq(ChangeCursor.FIRST), anyInt());
+		assertTrue(first.awaitEvents(2));
+		assertTrue(second.awaitEvents(2));
+	}
+
+	@Test
+	void testSlowSubscriberDoesNotDelayOthersAndIsDropped() throws InterruptedException {
+		feedService = feedService(100, Duration.ofMillis(200));
+		TestEmitter slow = new TestEmitter(1);
+		TestEmitter fast = new TestEmitter(0);
+		feedService.start();
+		subscribe(slow, fast);
+
+		when(changeRepository.findChanges(eq(ChangeCursor.FIRST), anyInt())).thenReturn(List.of(change(7, 1), change(7, 2)));
+		when(changeRepository.findChanges(eq(new ChangeCursor(7, 2)), anyInt())).thenReturn(List.of(change(8, 1)));
+		feedService.poll();
+		assertTrue(fast.awaitEvents(2));
+
+		Thread.sleep(300);
+		feedService.poll();
+		assertTrue(fast.awaitEvents(3));
+		assertEquals(1, feedService.getSubscriberCount());
+		assertEquals(0, slow.events.size());
+
+		slow.release.countDown();
+		assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+		assertEquals(1, slow.events.size());
+	}
+
+	/**
+	 * Una transacción que empezó antes que otra pero confirma después no debe perder sus cambios: el feed no
+	 * entrega cambios posteriores a la transacción más antigua en curso hasta que esta termina. Requiere
+	 * Docker.
+	 */
+	@Test
+	void testChangesOfOpenTransactionsAreNotSkipped() throws Exception {
+		Assumptions.assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is not available");
+		try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")) {
+			postgres.start();
+			try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class).run(
+					"--server.port=0",
+					"--spring.devtools.restart.enabled=false",
+					"--spring.datasource.url=" + postgres.getJdbcUrl(),
+					"--spring.datasource.username=" + postgres.getUsername(),
+					"--spring.datasource.password=" + postgres.getPassword(),
+					"--employee.outbox.publisher=memory");
+					Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+				EmployeeService employeeService = context.getBean(EmployeeService.class);
+				EmployeeChangeFeedService changeFeedService = context.getBean(EmployeeChangeFeedService.class);
+
+				Employee first = employeeService.save(new Employee("Daniel", null, "Tiro", null, "M", LocalDate.of(2000, 1, 1), "TIBD841213", "Developer", true));
+				ChangeFeedDTO feed = changeFeedService.findChanges(null, 10);
+				assertEquals(List.of(first.getId()), feed.getChanges().stream().map(EmployeeChangeDTO::getId).toList());
+
+				connection.setAutoCommit(false);
+				try (PreparedStatement update = connection.prepareStatement("UPDATE siscon_employee SET siscon_position = 'Architect' WHERE siscon_uuid = ?")) {
+					update.setObject(1, first.getId());
+					update.executeUpdate();
+				}
+				Employee second = employeeService.save(new Employee("Juan", null, "Perez", null, "M", LocalDate.of(1984, 1, 1), "PEJJ841213", "Developer", true));
+				assertTrue(changeFeedService.findChanges(feed.getNext(), 10).getChanges().isEmpty());
+
+				connection.commit();
+				List<EmployeeChangeDTO> changes = changeFeedService.findChanges(feed.getNext(), 10).getChanges();
+				assertEquals(List.of(first.getId(), second.getId()), changes.stream().map(EmployeeChangeDTO::getId).toList());
+				assertEquals("Architect", changes.get(0).getEmployee().getPosition());
+			}
+		}
+	}
+
+	private EmployeeChangeFeedService feedService(int maxSubscribers, Duration maxLag) {
+		return new EmployeeChangeFeedService(changeRepository, 1000, maxSubscribers, Duration.ofHours(1), Duration.ofMinutes(30), maxLag) {
+			@Override
+			SseEmitter createEmitter(long timeoutMillis) {
+				return emitters.remove();
+			}
+		};
+	}
+
+	/**
+	 * Suscribe los emitters sin cambios pendientes y espera las consultas que dispara cada suscripción, para
+	 * que las llamadas a {@code poll()} de la prueba no se crucen con ellas.
+	 */
+	private void subscribe(TestEmitter... subscribers) {
+		for (TestEmitter subscriber : subscribers) {
+			emitters.add(subscriber);
+			feedService.subscribe(null);
+		}
+		verify(changeRepository, timeout(5000).times(subscribers.length)).findChanges(eq(ChangeCursor.FIRST), anyInt());
+		clearInvocations(changeRepository);
+	}
+
+	private static EmployeeChangeDTO change(long txid, long seq) {
+		return new EmployeeChangeDTO(EmployeeChangeDTO.Type.UPSERT, UUID.randomUUID(), LocalDateTime.now(), null, new ChangeCursor(txid, seq).encode());
+	}
+
+	/**
+	 * Emitter que registra los eventos enviados; con {@code blocked} en 1 cada envío espera a {@code release},
+	 * como un cliente que no lee.
+	 */
+	private static class TestEmitter extends SseEmitter {
+
+		private final List<SseEventBuilder> events = new CopyOnWriteArrayList<>();
+		private final CountDownLatch release;
+		private final CountDownLatch completed = new CountDownLatch(1);
+
+		private TestEmitter(int blocked) {
+			this.release = new CountDownLatch(blocked);
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			}
+			events.add(builder);
+		}
+
+		@Override
+		public void complete() {
+			completed.countDown();
+		}
+
+		private boolean awaitEvents(int count) throws InterruptedException {
+			for (int i = 0; i < 100 && events.size() < count; i++) {
+				Thread.sleep(50);
+			}
+			return events.size() == count;
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.siscon.demo.employee.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class ChangeCursorTests {
+
+	@Test
+	void testCursorRoundTrip() {
+		ChangeCursor cursor = new ChangeCursor(5_000_000_123L, 42);
+		ChangeCursor decoded = ChangeCursor.decode(cursor.encode());
+
+		assertEquals(cursor, decoded);
+		assertEquals(5_000_000_123L, decoded.getTxid());
+		assertEquals(42, decoded.getSeq());
+		assertSame(ChangeCursor.FIRST, ChangeCursor.decode(null));
+		assertSame(ChangeCursor.FIRST, ChangeCursor.decode(" "));
+	}
+
+	@Test
+	void testInvalidCursorIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> ChangeCursor.decode("%%"));
+		assertThrows(IllegalArgumentException.class, () -> ChangeCursor.decode("NDI"));
+		assertThrows(IllegalArgumentException.class, () -> ChangeCursor.decode(new ChangeCursor(-1, 0).encode()));
+	}
+}
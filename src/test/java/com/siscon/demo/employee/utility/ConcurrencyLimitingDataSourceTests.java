@@ -0,0 +1,40 @@
+package com.siscon.demo.employee.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+
+class ConcurrencyLimitingDataSourceTests {
+
+	@Test
+	void testPermitsAreReleasedOnClose() throws Exception {
+		DataSource target = mock(DataSource.class);
+		Connection connection = mock(Connection.class);
+		PGConnection pgConnection = mock(PGConnection.class);
+		when(target.getConnection()).thenReturn(connection);
+		when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+		ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 1, Duration.ofMillis(50));
+		
+		Connection first = dataSource.getConnection();
+		assertSame(pgConnection, first.unwrap(PGConnection.class));
+		assertEquals(0, dataSource.getAvailablePermits());
+		assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+		
+		first.close();
+		first.close();
+		assertEquals(1, dataSource.getAvailablePermits());
+		dataSource.getConnection().close();
+		assertEquals(1, dataSource.getAvailablePermits());
+	}
+}
@@ -0,0 +1,43 @@
+package com.siscon.demo.employee.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeIdGeneratorTests {
+
+	@AfterEach
+	void restoreStrategy() {
+		EmployeeIdGenerator.setStrategy(EmployeeIdGenerator.Strategy.TIME_ORDERED);
+	}
+
+	@Test
+	void testTimeOrderedIdsAreVersion7AndSortByCreationTime() {
+		long millis = 1_760_000_000_000L;
+		UUID first = EmployeeIdGenerator.timeOrdered(millis);
+		UUID second = EmployeeIdGenerator.timeOrdered(millis + 1);
+
+		assertEquals(7, first.version());
+		assertEquals(2, first.variant());
+		assertEquals(millis, first.getMostSignificantBits() >>> 16);
+		// PostgreSQL compara uuid byte a byte, igual que el texto en hexadecimal
+		assertTrue(first.toString().compareTo(second.toString()) < 0);
+		assertTrue(!first.equals(EmployeeIdGenerator.timeOrdered(millis)));
+	}
+
+	@Test
+	void testStrategyIsConfigurable() {
+		EmployeeIdGenerator.setStrategy(EmployeeIdGenerator.Strategy.from("random"));
+		assertEquals(4, EmployeeIdGenerator.next().version());
+
+		EmployeeIdGenerator.setStrategy(EmployeeIdGenerator.Strategy.from("time-ordered"));
+		assertEquals(7, EmployeeIdGenerator.next().version());
+
+		assertThrows(IllegalArgumentException.class, () -> EmployeeIdGenerator.Strategy.from("sequence"));
+	}
+}
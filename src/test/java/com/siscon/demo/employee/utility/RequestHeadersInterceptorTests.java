@@ -0,0 +1,37 @@
+package com.siscon.demo.employee.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class RequestHeadersInterceptorTests {
+
+	@Test
+	void testOnlyAllowlistedHeadersAreLoggedAndCredentialsAreMasked() {
+		RequestHeadersInterceptor interceptor = new RequestHeadersInterceptor(1.0, List.of("User-Agent", " Authorization", "X-Request-Id"), Duration.ofSeconds(1));
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("User-Agent", "curl");
+		request.addHeader("Authorization", "Bearer secret");
+		request.addHeader("Cookie", "session=1");
+
+		assertEquals(" User-Agent=curl Authorization=********", interceptor.formatHeaders(request));
+	}
+
+	@Test
+	void testUnsampledRequestsAreLoggedOnlyWhenFailedOrSlow() {
+		RequestHeadersInterceptor interceptor = new RequestHeadersInterceptor(0.0, List.of(), Duration.ofMillis(500));
+
+		assertFalse(interceptor.isSampled());
+		assertEquals("", interceptor.formatHeaders(new MockHttpServletRequest()));
+		assertFalse(interceptor.shouldLog(false, 200, Duration.ofMillis(10).toNanos()));
+		assertTrue(interceptor.shouldLog(false, 503, Duration.ofMillis(10).toNanos()));
+		assertTrue(interceptor.shouldLog(false, 200, Duration.ofMillis(500).toNanos()));
+		assertTrue(interceptor.shouldLog(true, 200, 0));
+	}
+}
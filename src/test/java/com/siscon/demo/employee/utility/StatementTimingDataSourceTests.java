@@ -0,0 +1,57 @@
+package com.siscon.demo.employee.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+
+class StatementTimingDataSourceTests {
+
+	@AfterEach
+	void clearTiming() {
+		RequestTiming.clear();
+	}
+
+	@Test
+	void testStatementsAreCountedAndBudgetIsEnforced() throws Exception {
+		DataSource target = mock(DataSource.class);
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		PGConnection pgConnection = mock(PGConnection.class);
+		when(target.getConnection()).thenReturn(connection);
+		when(connection.prepareStatement("select 1")).thenReturn(statement);
+		when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+		StatementTimingDataSource dataSource = new StatementTimingDataSource(target);
+
+		Connection timed = dataSource.getConnection();
+		assertSame(pgConnection, timed.unwrap(PGConnection.class));
+		assertTrue(timed.equals(timed));
+		timed.prepareStatement("select 1").executeQuery();
+		assertEquals(null, RequestTiming.current());
+
+		RequestTiming timing = RequestTiming.start("EmployeeController.findById", 1, true);
+		PreparedStatement prepared = timed.prepareStatement("select 1");
+		prepared.setInt(1, 1);
+		prepared.executeQuery();
+		assertEquals(1, timing.getStatements());
+		assertThrows(IllegalStateException.class, prepared::executeQuery);
+		verify(statement, times(2)).executeQuery();
+		verify(statement, never()).executeUpdate();
+		assertTrue(timing.toServerTiming().startsWith("db;dur="));
+		assertTrue(timing.toServerTiming().contains(";desc=\"1 statements\", service;dur=0.0, app;dur="));
+	}
+}